@@ -42,6 +42,9 @@ public class Config {
     public final BooleanValue glassRecipeFix;
     public final Map<TinkerHeadType,BooleanValue> headDrops;
     public final DoubleValue repairKitAmount;
+    public final IntValue entityMeltingInterval;
+    public final IntValue aoeBlocksPerTick;
+    public final BooleanValue compactToolNBT;
 
     // loot
     public final BooleanValue slimyLootChests;
@@ -94,6 +97,20 @@ public class Config {
         .comment("Amount of durability restored by a repair kit in terms of ingots. Does not affect the cost to create the kit, that is controlled by JSON.")
         .defineInRange("repairKitAmount", 2f, 0f, Short.MAX_VALUE);
 
+      this.entityMeltingInterval = builder
+        .comment("Number of ticks between checks for entities to melt or items to pick up inside the smeltery and foundry. Higher values reduce the cost of smelteries full of mobs.")
+        .defineInRange("entityMeltingInterval", 20, 1, 200);
+
+      this.aoeBlocksPerTick = builder
+        .comment("Maximum number of extra blocks broken per tick by area of effect tools such as veining and tree felling. Any remaining blocks are broken over the following ticks while the player holds the tool.",
+                 "If 0, all blocks are broken in the same tick.")
+        .defineInRange("aoeBlocksPerTick", 0, 0, 4096);
+
+      this.compactToolNBT = builder
+        .comment("If true, tool stats, multipliers, and modifiers are saved in a compact binary format, reducing the size of tools on disk and when syncing inventories.",
+                 "Tools in either format can always be read, so this can be changed at any time. Tools are converted as they are modified. Disable if another mod reads tool NBT directly.")
+        .define("compactToolNBT", false);
+
       builder.pop();
 
 //      this.chestsKeepInventory = builder
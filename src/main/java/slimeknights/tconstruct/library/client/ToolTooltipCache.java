@@ -0,0 +1,103 @@
+package slimeknights.tconstruct.library.client;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.TooltipFlag;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
+import slimeknights.mantle.client.TooltipKey;
+import slimeknights.mantle.data.listener.ISafeManagerReloadListener;
+import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Cache of built tool tooltips, as rebuilding the tooltip every frame the tool is hovered requires parsing the tool and running all modifier display hooks.
+ * Entries are keyed by the tool NBT, so any change to the tool gives a new entry, and the least recently used entries are discarded once the cache is full.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ToolTooltipCache {
+  /** Maximum number of tooltips to keep */
+  private static final int MAX_SIZE = 256;
+
+  /** Key for a cached tooltip */
+  private record Key(Item item, @Nullable CompoundTag nbt, TooltipKey tooltipKey, boolean advanced, boolean modifierIds) {}
+
+  /**
+   * Cached tooltip
+   * @param tooltip   Built tooltip lines
+   * @param gameTime  Game time the tooltip was built, or -1 if the tooltip does not depend on the player
+   */
+  private record Entry(List<Component> tooltip, long gameTime) {}
+
+  /** Cache of tooltips, access ordered so the eldest entry is the least recently used */
+  private static final Map<Key,Entry> CACHE = new LinkedHashMap<>(MAX_SIZE, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key,Entry> eldest) {
+      return size() > MAX_SIZE;
+    }
+  };
+
+  /** Clears all cached tooltips */
+  public static void clear() {
+    synchronized (CACHE) {
+      CACHE.clear();
+    }
+  }
+
+  /** Clears the cache on language and resource pack changes */
+  private static final ISafeManagerReloadListener RELOAD_LISTENER = manager -> clear();
+
+  static {
+    // tool definitions, materials, and modifiers may all change on datapack reload
+    RecipeCacheInvalidator.addReloadListener(client -> clear());
+  }
+
+  /** Called during the event to initialize the cache invalidators */
+  public static void init(RegisterClientReloadListenersEvent manager) {
+    manager.registerReloadListener(RELOAD_LISTENER);
+  }
+
+  /**
+   * Gets the tooltip for the given stack, building it if not cached
+   * @param stack    Tool stack
+   * @param player   Player the tooltip is built for. If nonnull, the tooltip is only reused within the same tick as modifiers may display player dependent values
+   * @param key      Tooltip key
+   * @param flag     Tooltip flag
+   * @param builder  Logic to build the tooltip if missing
+   * @return  Cached tooltip, should not be modified
+   */
+  public static List<Component> get(ItemStack stack, @Nullable Player player, TooltipKey key, TooltipFlag flag, Consumer<List<Component>> builder) {
+    boolean advanced = flag.isAdvanced();
+    CompoundTag nbt = stack.getTag();
+    Key cacheKey = new Key(stack.getItem(), nbt, key, advanced, advanced && Config.CLIENT.modifiersIDsInAdvancedTooltips.get());
+    long gameTime = player == null ? -1 : player.level.getGameTime();
+    synchronized (CACHE) {
+      Entry entry = CACHE.get(cacheKey);
+      if (entry != null && entry.gameTime == gameTime) {
+        return entry.tooltip;
+      }
+    }
+    List<Component> tooltip = new ArrayList<>();
+    builder.accept(tooltip);
+    tooltip = List.copyOf(tooltip);
+    // copy the NBT so later changes to the stack do not modify the key
+    if (nbt != null) {
+      cacheKey = new Key(cacheKey.item, nbt.copy(), key, cacheKey.advanced, cacheKey.modifierIds);
+    }
+    synchronized (CACHE) {
+      CACHE.put(cacheKey, new Entry(tooltip, gameTime));
+    }
+    return tooltip;
+  }
+}
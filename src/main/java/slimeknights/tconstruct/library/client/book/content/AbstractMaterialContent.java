@@ -47,7 +47,6 @@ import slimeknights.tconstruct.library.recipe.material.MaterialRecipe;
 import slimeknights.tconstruct.library.tools.definition.module.material.ToolMaterialHook;
 import slimeknights.tconstruct.library.tools.helper.ToolBuildHandler;
 import slimeknights.tconstruct.library.tools.item.IModifiable;
-import slimeknights.tconstruct.library.tools.nbt.MaterialNBT;
 import slimeknights.tconstruct.library.tools.part.IToolPart;
 import slimeknights.tconstruct.tables.TinkerTables;
 import slimeknights.tconstruct.tools.TinkerToolParts;
@@ -305,31 +304,19 @@ public abstract class AbstractMaterialContent extends PageContent {
 
     // fill in leftover space
     if (displayTools.size() < 9) {
-      MaterialId materialId = materialVariant.getId();
       toolLoop:
       for (Holder<Item> item : Registry.ITEM.getTagOrEmpty(TinkerTags.Items.MULTIPART_TOOL)) {
         if (item.value() instanceof IModifiable tool) {
-          List<MaterialStatsId> requirements = ToolMaterialHook.stats(tool.getToolDefinition());
-          // start building the tool with the given material
-          MaterialNBT.Builder materials = MaterialNBT.builder();
-          boolean usedMaterial = false;
-          for (MaterialStatsId part : requirements) {
-            // if any stat type of the tool is not supported by this page, skip the whole tool
+          // if any stat type of the tool is not supported by this page, skip the whole tool
+          for (MaterialStatsId part : ToolMaterialHook.stats(tool.getToolDefinition())) {
             if (!supportsStatType(part)) {
               continue toolLoop;
             }
-            // if the stat type is not supported by the material, substitute
-            if (part.canUseMaterial(materialId)) {
-              materials.add(materialVariant);
-              usedMaterial = true;
-            } else {
-              materials.add(MaterialRegistry.firstWithStatType(part));
-            }
           }
 
           // only add a stack if our material showed up
-          if (usedMaterial) {
-            ItemStack display = ToolBuildHandler.buildItemFromMaterials(tool, materials.build());
+          ItemStack display = ToolBuildHandler.getDisplayTool(tool, MaterialVariant.of(materialVariant));
+          if (!display.isEmpty()) {
             displayTools.add(new TinkerItemElement(display));
             if (displayTools.size() == 9) {
               break;
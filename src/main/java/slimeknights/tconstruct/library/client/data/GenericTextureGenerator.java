@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.library.client.data;
 
+import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
 import com.google.gson.JsonObject;
 import com.mojang.blaze3d.platform.NativeImage;
@@ -43,26 +44,31 @@ public abstract class GenericTextureGenerator implements DataProvider {
     this(generator, null, folder);
   }
 
-  /** Saves the given image to the given location */
+  /** Saves the given image to the given location. Safe to call from multiple threads, encoding runs in parallel while writes are synchronized on the cache */
   @SuppressWarnings("UnstableApiUsage")
   protected void saveImage(CachedOutput cache, ResourceLocation location, NativeImage image) {
     try {
       Path path = this.generator.getOutputFolder().resolve(Paths.get(PackType.CLIENT_RESOURCES.getDirectory(), location.getNamespace(), folder, location.getPath() + ".png"));
-      if (existingFileHelper != null && resourceType != null) {
-        existingFileHelper.trackGenerated(location, resourceType);
-      }
       byte[] bytes = image.asByteArray();
-      cache.writeIfNeeded(path, bytes, Hashing.sha1().hashBytes(bytes));
+      HashCode hash = Hashing.sha1().hashBytes(bytes);
+      synchronized (cache) {
+        if (existingFileHelper != null && resourceType != null) {
+          existingFileHelper.trackGenerated(location, resourceType);
+        }
+        cache.writeIfNeeded(path, bytes, hash);
+      }
     } catch (IOException e) {
       log.error("Couldn't write image for {}", location, e);
     }
   }
 
-  /** Saves metadata for the given image */
+  /** Saves metadata for the given image. Safe to call from multiple threads */
   protected void saveMetadata(CachedOutput cache, ResourceLocation location, JsonObject metadata) {
     try {
       Path path = this.generator.getOutputFolder().resolve(Paths.get(PackType.CLIENT_RESOURCES.getDirectory(), location.getNamespace(), folder, location.getPath() + ".png.mcmeta"));
-      DataProvider.saveStable(cache, metadata, path);
+      synchronized (cache) {
+        DataProvider.saveStable(cache, metadata, path);
+      }
     } catch (IOException e) {
       log.error("Couldn't write image metadata for {}", location, e);
     }
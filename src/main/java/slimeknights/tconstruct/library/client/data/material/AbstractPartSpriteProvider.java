@@ -188,7 +188,7 @@ public abstract class AbstractPartSpriteProvider {
 
     /** Gets the texture for the given fallback name, use empty string for the default */
     @Nullable
-    public NativeImage getTexture(AbstractSpriteReader spriteReader, String name) {
+    public synchronized NativeImage getTexture(AbstractSpriteReader spriteReader, String name) {
       if (sprites.containsKey(name)) {
         return sprites.get(name);
       }
@@ -198,7 +198,7 @@ public abstract class AbstractPartSpriteProvider {
         fallbackPath = new ResourceLocation(path.getNamespace(), path.getPath() + "_" + name);
       }
       // if the image exists, fetch it and return it
-      NativeImage image = spriteReader.readIfExists(fallbackPath);
+      NativeImage image = spriteReader.readCached(fallbackPath);
       sprites.put(name, image);
       return image;
     }
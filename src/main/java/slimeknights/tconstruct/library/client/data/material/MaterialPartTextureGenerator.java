@@ -2,6 +2,8 @@ package slimeknights.tconstruct.library.client.data.material;
 
 import com.google.gson.JsonObject;
 import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.datafixers.util.Pair;
+import lombok.extern.log4j.Log4j2;
 import net.minecraft.data.CachedOutput;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.resources.ResourceLocation;
@@ -33,6 +35,7 @@ import java.util.function.Predicate;
  * </ul>
  * In case you need to divide into more than those two, it will be most efficient if each sprite is handled by only a single generator, so always split over sets of materials.
  */
+@Log4j2
 public class MaterialPartTextureGenerator extends GenericTextureGenerator {
   /** Path to textures outputted by this generator */
   public static final String FOLDER = "textures";
@@ -91,19 +94,51 @@ public class MaterialPartTextureGenerator extends GenericTextureGenerator {
       }
       // want cross product of textures
       Predicate<ResourceLocation> shouldGenerate = path -> !spriteReader.exists(path);
-      for (MaterialSpriteInfo material : materials) {
-        for (PartSpriteInfo part : parts) {
-          if (material.supportStatType(part.getStatType()) || overrides.hasOverride(part.getStatType(), material.getTexture())) {
-            generateSprite(spriteReader, material, part, shouldGenerate, saver, metaSaver);
-          }
-        }
-      }
+      long time = System.nanoTime();
+      int generated = generateSprites(spriteReader, materials, parts, overrides, shouldGenerate, saver, metaSaver);
+      log.info("{}: generated {} sprites for {} materials in {} ms", getName(), generated, materials.size(), (System.nanoTime() - time) / 1000000f);
     }
     spriteReader.closeAll();
     partProvider.cleanCache();
     runCallbacks(null, null);
   }
 
+  /**
+   * Generates the cross product of the given materials and parts, skipping any parts the material does not support.
+   * The predicate is checked on the calling thread before sprites are transformed and saved in parallel, so only the savers must be safe to call from multiple threads.
+   * As each sprite is generated independently the result matches generating each with {@link #generateSprite(AbstractSpriteReader, MaterialSpriteInfo, PartSpriteInfo, Predicate, BiConsumer, BiConsumer)}.
+   * @param spriteReader    Reader to find existing sprites
+   * @param materials       Materials to generate
+   * @param parts           Parts to generate for each material
+   * @param overrides       Stat type overrides to generate parts for materials lacking the stat type
+   * @param shouldGenerate  Predicate to determine if the sprite should generate, given the local path to the sprite
+   * @param saver           Function to save the images
+   * @param metaSaver       Function to save the animation metadata
+   * @return  Number of sprites generated
+   */
+  public static int generateSprites(AbstractSpriteReader spriteReader, Collection<MaterialSpriteInfo> materials, List<PartSpriteInfo> parts, StatOverride overrides, Predicate<ResourceLocation> shouldGenerate, BiConsumer<ResourceLocation, NativeImage> saver, BiConsumer<ResourceLocation,JsonObject> metaSaver) {
+    // build the list of sprites up front so the fork join pool can split it evenly
+    // the predicate is tested here as the existing file helper is not safe to query while another thread tracks generated files
+    List<Pair<MaterialSpriteInfo,PartSpriteInfo>> sprites = new ArrayList<>();
+    for (MaterialSpriteInfo material : materials) {
+      for (PartSpriteInfo part : parts) {
+        if ((material.supportStatType(part.getStatType()) || overrides.hasOverride(part.getStatType(), material.getTexture()))
+            && shouldGenerate.test(getSpritePath(material, part))) {
+          sprites.add(Pair.of(material, part));
+        }
+      }
+    }
+    sprites.parallelStream().forEach(pair -> generateSprite(spriteReader, pair.getFirst(), pair.getSecond(), saver, metaSaver));
+    return sprites.size();
+  }
+
+  /** Gets the path for the sprite of the given material and part, format is pNamespace:pPath_mNamespace_mPath */
+  private static ResourceLocation getSpritePath(MaterialSpriteInfo material, PartSpriteInfo part) {
+    ResourceLocation partPath = part.getPath();
+    ResourceLocation materialTexture = material.getTexture();
+    return new ResourceLocation(partPath.getNamespace(), partPath.getPath() + "_" + materialTexture.getNamespace() + "_" + materialTexture.getPath());
+  }
+
   /**
    * Generates the given sprite
    * @param spriteReader    Reader to find existing sprites
@@ -112,41 +147,44 @@ public class MaterialPartTextureGenerator extends GenericTextureGenerator {
    * @param shouldGenerate  Predicate to determine if the sprite should generate, given the local path to the sprite
    * @param saver           Function to save the images
    * @param metaSaver       Function to save the animation metadata
+   * @return  True if the sprite was generated, false if skipped by the predicate
    */
-  public static void generateSprite(AbstractSpriteReader spriteReader, MaterialSpriteInfo material, PartSpriteInfo part, Predicate<ResourceLocation> shouldGenerate, BiConsumer<ResourceLocation, NativeImage> saver, BiConsumer<ResourceLocation,JsonObject> metaSaver) {
+  public static boolean generateSprite(AbstractSpriteReader spriteReader, MaterialSpriteInfo material, PartSpriteInfo part, Predicate<ResourceLocation> shouldGenerate, BiConsumer<ResourceLocation, NativeImage> saver, BiConsumer<ResourceLocation,JsonObject> metaSaver) {
     // first step: see if this sprite has already been generated, if so nothing to do
-    // path format: pNamespace:pPath_mNamespace_mPath
-    ResourceLocation partPath = part.getPath();
-    ResourceLocation materialTexture = material.getTexture();
-    ResourceLocation spritePath = new ResourceLocation(partPath.getNamespace(),
-      partPath.getPath() + "_" + materialTexture.getNamespace() + "_" + materialTexture.getPath());
-
-    // image does not exist? first step is to find a base image
-    if (shouldGenerate.test(spritePath)) {
-      NativeImage base = null;
-      for (String fallback : material.getFallbacks()) {
-        base = part.getTexture(spriteReader, fallback);
-        if (base != null) {
-          break;
-        }
-      }
-      // no fallback existed, try the main one
-      if (base == null) {
-        base = part.getTexture(spriteReader, "");
-      }
-      if (base == null) {
-        throw new IllegalStateException("Missing sprite at " + partPath + ".png, cannot generate textures");
+    if (shouldGenerate.test(getSpritePath(material, part))) {
+      generateSprite(spriteReader, material, part, saver, metaSaver);
+      return true;
+    }
+    return false;
+  }
+
+  /** Generates the given sprite without checking if it should generate */
+  private static void generateSprite(AbstractSpriteReader spriteReader, MaterialSpriteInfo material, PartSpriteInfo part, BiConsumer<ResourceLocation, NativeImage> saver, BiConsumer<ResourceLocation,JsonObject> metaSaver) {
+    // first step is to find a base image
+    NativeImage base = null;
+    for (String fallback : material.getFallbacks()) {
+      base = part.getTexture(spriteReader, fallback);
+      if (base != null) {
+        break;
       }
-      // successfully found a texture, now transform and save
-      ISpriteTransformer transformer = material.getTransformer();
-      NativeImage transformed = transformer.transformCopy(base, part.isAllowAnimated());
-      spriteReader.track(transformed);
-      saver.accept(spritePath, transformed);
-      if (part.isAllowAnimated()) {
-        JsonObject meta = transformer.animationMeta(base);
-        if (meta != null) {
-          metaSaver.accept(spritePath, meta);
-        }
+    }
+    // no fallback existed, try the main one
+    if (base == null) {
+      base = part.getTexture(spriteReader, "");
+    }
+    if (base == null) {
+      throw new IllegalStateException("Missing sprite at " + part.getPath() + ".png, cannot generate textures");
+    }
+    // successfully found a texture, now transform and save
+    ResourceLocation spritePath = getSpritePath(material, part);
+    ISpriteTransformer transformer = material.getTransformer();
+    NativeImage transformed = transformer.transformCopy(base, part.isAllowAnimated());
+    spriteReader.track(transformed);
+    saver.accept(spritePath, transformed);
+    if (part.isAllowAnimated()) {
+      JsonObject meta = transformer.animationMeta(base);
+      if (meta != null) {
+        metaSaver.accept(spritePath, meta);
       }
     }
   }
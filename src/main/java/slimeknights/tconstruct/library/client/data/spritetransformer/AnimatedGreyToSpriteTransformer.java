@@ -43,8 +43,8 @@ public class AnimatedGreyToSpriteTransformer extends GreyToSpriteTransformer {
     int height = image.getHeight() / frames;
     // ensure we don't overwrite the first frame until we finished all other frames, its the only one with data
     for (int f = frames - 1; f >= 0; f--) {
-      for (int x = 0; x < width; x++) {
-        for (int y = 0; y < height; y++) {
+      for (int y = 0; y < height; y++) {
+        for (int x = 0; x < width; x++) {
           // use first frame data to determine result, then save it to the proper frame location
           image.setPixelRGBA(x, y + f * height, getNewColor(image.getPixelRGBA(x, y), x, y, f));
         }
@@ -64,7 +64,7 @@ public class AnimatedGreyToSpriteTransformer extends GreyToSpriteTransformer {
 
   @Nullable
   @Override
-  public JsonObject animationMeta(NativeImage image) {
+  public synchronized JsonObject animationMeta(NativeImage image) {
     if (meta == null) {
       if (READER == null) {
         throw new IllegalStateException("Cannot get image for a sprite without reader");
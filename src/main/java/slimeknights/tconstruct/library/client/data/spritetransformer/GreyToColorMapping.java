@@ -8,8 +8,6 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import slimeknights.mantle.util.JsonHelper;
@@ -28,13 +26,20 @@ import static com.mojang.blaze3d.platform.NativeImage.getG;
 import static com.mojang.blaze3d.platform.NativeImage.getR;
 
 /** Color mcom.mojang.blaze3d.platform.NativeImager each value */
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class GreyToColorMapping implements IColorMapping {
   public static final ResourceLocation NAME = TConstruct.getResource("grey_to_color");
   public static final Deserializer DESERIALIZER = new Deserializer();
 
   private final List<ColorMapping> mappings;
-  private final Integer[] recolorCache = new Integer[256];
+  /** Palette color for each grey value, precomputed as there are only 256 possible grey values */
+  private final int[] colorLookup = new int[256];
+
+  protected GreyToColorMapping(List<ColorMapping> mappings) {
+    this.mappings = mappings;
+    for (int grey = 0; grey < 256; grey++) {
+      colorLookup[grey] = getNearestByGrey(mappings, GET_GREY, grey, INTERPOLATE_COLORS);
+    }
+  }
 
   /** Function to interpolate color values of two colors */
   private static final Interpolate<ColorMapping,Integer> INTERPOLATE_COLORS = (first, second, grey) -> {
@@ -52,16 +57,12 @@ public class GreyToColorMapping implements IColorMapping {
   private static final ToIntFunction<ColorMapping> GET_GREY = ColorMapping::grey;
 
   /**
-   * Gets the color for the given greyscale from the palette, using the cache
+   * Gets the color for the given greyscale from the palette
    * @param grey  Grey value
    * @return  Color
    */
   public int getColorForGrey(int grey) {
-    if (recolorCache[grey] == null) {
-      int calculated = getNearestByGrey(mappings, GET_GREY, grey, INTERPOLATE_COLORS);
-      recolorCache[grey] = calculated;
-    }
-    return recolorCache[grey];
+    return colorLookup[grey];
   }
 
   @Override
@@ -72,7 +73,7 @@ public class GreyToColorMapping implements IColorMapping {
       return 0x00000000;
     }
     int grey = getGrey(color);
-    return scaleColor(color, getColorForGrey(grey), grey);
+    return scaleColor(color, colorLookup[grey], grey);
   }
 
   @Override
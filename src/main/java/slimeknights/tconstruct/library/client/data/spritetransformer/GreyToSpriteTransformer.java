@@ -30,6 +30,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.ToIntFunction;
@@ -50,7 +51,7 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
   @Nullable
   static AbstractSpriteReader READER = null;
   /** List of all sprite mappings with cached data that need to be cleared */
-  private static final List<SpriteMapping> MAPPINGS_TO_CLEAR = new ArrayList<>();
+  private static final List<SpriteMapping> MAPPINGS_TO_CLEAR = Collections.synchronizedList(new ArrayList<>());
 
   /** List of sprites to try */
   private final List<SpriteMapping> sprites;
@@ -85,8 +86,10 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
 
   @Override
   public void transform(NativeImage image, boolean allowAnimated) {
-    for (int x = 0; x < image.getWidth(); x++) {
-      for (int y = 0; y < image.getHeight(); y++) {
+    // images are stored by row, so iterate a row at a time
+    int width = image.getWidth();
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < width; x++) {
         image.setPixelRGBA(x, y, getNewColor(image.getPixelRGBA(x, y), x, y));
       }
     }
@@ -235,9 +238,9 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
     /** Loaded image */
     private transient NativeImage image = null;
 
-    /** Gets the image for this mapping */
+    /** Gets the image for this mapping, synchronized as sprites are transformed in parallel */
     @Nullable
-    private NativeImage getImage() {
+    private synchronized NativeImage getImage() {
       if (path != null && image == null) {
         if (READER == null) {
           throw new IllegalStateException("Cannot get image for a sprite without reader");
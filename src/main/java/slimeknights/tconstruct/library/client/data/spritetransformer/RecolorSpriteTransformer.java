@@ -27,8 +27,11 @@ public class RecolorSpriteTransformer implements ISpriteTransformer {
 
   @Override
   public void transform(NativeImage image, boolean allowAnimated) {
-    for (int x = 0; x < image.getWidth(); x++) {
-      for (int y = 0; y < image.getHeight(); y++) {
+    // images are stored by row, so iterate in row order
+    int width = image.getWidth();
+    int height = image.getHeight();
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
         image.setPixelRGBA(x, y, colorMapping.mapColor(image.getPixelRGBA(x, y)));
       }
     }
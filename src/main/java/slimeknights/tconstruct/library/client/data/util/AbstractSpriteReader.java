@@ -8,12 +8,21 @@ import net.minecraft.resources.ResourceLocation;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-/** Base sprite reader implementation for both datagen and the command */
+/**
+ * Base sprite reader implementation for both datagen and the command.
+ * Readers are safe to use from multiple threads, as sprites are generated in parallel.
+ */
 @RequiredArgsConstructor
 public abstract class AbstractSpriteReader {
-  protected final List<NativeImage> openedImages = new ArrayList<>();
+  protected final List<NativeImage> openedImages = Collections.synchronizedList(new ArrayList<>());
+  /** Images read through {@link #readCached(ResourceLocation)}, shared between all sprites using the same base image */
+  private final Map<ResourceLocation,Optional<NativeImage>> cachedImages = new ConcurrentHashMap<>();
 
   /** Checks if an image exists in the given location */
   public abstract boolean exists(ResourceLocation path);
@@ -42,6 +51,17 @@ public abstract class AbstractSpriteReader {
     return null;
   }
 
+  /**
+   * Reads the file if it exists, reusing the image from a previous call with the same path.
+   * Cached images must not be modified, use {@link NativeImage#copyFrom(NativeImage)} to make a copy first.
+   * @param path  Path containing the file
+   * @return  Loaded image, or null if missing
+   */
+  @Nullable
+  public NativeImage readCached(ResourceLocation path) {
+    return cachedImages.computeIfAbsent(path, p -> Optional.ofNullable(readIfExists(p))).orElse(null);
+  }
+
   /** Reads metadata from the given path */
   public abstract JsonObject readMetadata(ResourceLocation path) throws IOException;
 
@@ -59,9 +79,12 @@ public abstract class AbstractSpriteReader {
 
   /** Closes all opened images */
   public void closeAll() {
-    for (NativeImage image : openedImages) {
-      image.close();
+    synchronized (openedImages) {
+      for (NativeImage image : openedImages) {
+        image.close();
+      }
+      openedImages.clear();
     }
-    openedImages.clear();
+    cachedImages.clear();
   }
 }
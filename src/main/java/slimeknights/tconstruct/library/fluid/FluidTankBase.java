@@ -3,8 +3,7 @@ package slimeknights.tconstruct.library.fluid;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.fluids.capability.templates.FluidTank;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
-import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
+import slimeknights.tconstruct.smeltery.network.FluidSyncBatcher;
 
 public class FluidTankBase<T extends MantleBlockEntity> extends FluidTank {
 
@@ -24,7 +23,7 @@ public class FluidTankBase<T extends MantleBlockEntity> extends FluidTank {
     parent.setChanged();
     Level level = parent.getLevel();
     if(level != null && !level.isClientSide) {
-      TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(parent.getBlockPos(), this.getFluid()), level, parent.getBlockPos());
+      FluidSyncBatcher.queueFluid(level, parent.getBlockPos(), this.getFluid());
     }
   }
 }
@@ -0,0 +1,142 @@
+package slimeknights.tconstruct.library.json.math;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Post fix formula compiled into flat instruction arrays with a precomputed stack depth.
+ * Constant operations are folded while compiling, and evaluating uses a reusable per thread stack buffer instead of a growable list, so each operation runs exactly once.
+ * Note the argument array is still created by the caller of {@link ModifierFormula#apply(float...)}.
+ */
+final class CompiledFormula {
+  /** Stack buffer for each thread, grown to the largest stack depth evaluated on that thread. Formulas do not evaluate other formulas, so the buffer is never used twice at once */
+  private static final ThreadLocal<float[]> STACK = ThreadLocal.withInitial(() -> new float[8]);
+
+  /** Operator for each instruction, null if the instruction pushes a value */
+  private final PostFixOperator[] operators;
+  /** Variable index to push for each instruction, -1 if the instruction pushes a constant */
+  private final int[] variables;
+  /** Constant value to push for each instruction */
+  private final float[] constants;
+  /** Maximum number of values on the stack during evaluation */
+  private final int maxDepth;
+
+  private CompiledFormula(List<Instruction> instructions, int maxDepth) {
+    int size = instructions.size();
+    this.operators = new PostFixOperator[size];
+    this.variables = new int[size];
+    this.constants = new float[size];
+    for (int i = 0; i < size; i++) {
+      Instruction instruction = instructions.get(i);
+      operators[i] = instruction.operator;
+      variables[i] = instruction.variable;
+      constants[i] = instruction.constant;
+    }
+    this.maxDepth = maxDepth;
+  }
+
+  /** Gets the number of instructions after folding constants */
+  int size() {
+    return operators.length;
+  }
+
+  /** Evaluates this formula using the given variables */
+  float apply(float[] arguments) {
+    float[] stack = STACK.get();
+    if (stack.length < maxDepth) {
+      stack = new float[maxDepth];
+      STACK.set(stack);
+    }
+    int size = 0;
+    for (int i = 0; i < operators.length; i++) {
+      PostFixOperator operator = operators[i];
+      if (operator != null) {
+        size = operator.perform(stack, size);
+      } else if (variables[i] >= 0) {
+        stack[size++] = arguments[variables[i]];
+      } else {
+        stack[size++] = constants[i];
+      }
+    }
+    return stack[0];
+  }
+
+  /** Single instruction while compiling */
+  private record Instruction(@Nullable PostFixOperator operator, int variable, float constant) {
+    /** Creates an instruction pushing a constant */
+    static Instruction constant(float value) {
+      return new Instruction(null, -1, value);
+    }
+
+    /** Checks if this instruction pushes a constant */
+    boolean isConstant() {
+      return operator == null && variable < 0;
+    }
+  }
+
+  /**
+   * Compiles the list of operations
+   * @param operations  Operations to compile
+   * @return  Compiled formula, or null if the operations are invalid or contain an operation that does not support compiling
+   */
+  @Nullable
+  static CompiledFormula compile(List<StackOperation> operations) {
+    List<Instruction> instructions = new ArrayList<>(operations.size());
+    int depth = 0;
+    int maxDepth = 0;
+    for (StackOperation operation : operations) {
+      if (operation instanceof PushConstantOperation constant) {
+        instructions.add(Instruction.constant(constant.value()));
+        depth++;
+      } else if (operation instanceof PushVariableOperation variable) {
+        instructions.add(new Instruction(null, variable.index(), 0));
+        depth++;
+      } else if (operation instanceof PostFixOperator operator) {
+        int arguments = operator.arguments();
+        // too few arguments for an operator, let the interpreter report the error
+        if (depth < arguments) {
+          return null;
+        }
+        depth += operator.results() - arguments;
+        if (!foldConstants(instructions, operator, arguments)) {
+          instructions.add(new Instruction(operator, -1, 0));
+        }
+      } else {
+        return null;
+      }
+      maxDepth = Math.max(maxDepth, depth);
+    }
+    if (depth != 1) {
+      return null;
+    }
+    return new CompiledFormula(instructions, maxDepth);
+  }
+
+  /**
+   * Runs the operator while compiling if all its arguments are constants pushed by the previous instructions
+   * @return  True if the operator was folded into constants
+   */
+  private static boolean foldConstants(List<Instruction> instructions, PostFixOperator operator, int arguments) {
+    int start = instructions.size() - arguments;
+    if (start < 0) {
+      return false;
+    }
+    for (int i = start; i < instructions.size(); i++) {
+      if (!instructions.get(i).isConstant()) {
+        return false;
+      }
+    }
+    // run the operator on the constants, then replace them with the results
+    float[] stack = new float[Math.max(arguments, operator.results())];
+    for (int i = 0; i < arguments; i++) {
+      stack[i] = instructions.get(start + i).constant;
+    }
+    int size = operator.perform(stack, arguments);
+    instructions.subList(start, instructions.size()).clear();
+    for (int i = 0; i < size; i++) {
+      instructions.add(Instruction.constant(stack[i]));
+    }
+    return true;
+  }
+}
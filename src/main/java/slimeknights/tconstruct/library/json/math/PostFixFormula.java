@@ -13,16 +13,50 @@ import net.minecraft.util.GsonHelper;
 import slimeknights.mantle.util.JsonHelper;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
-/** Performs a math formula using a post fix calculator */
-public record PostFixFormula(List<StackOperation> operations, int numArguments) implements ModifierFormula {
+/**
+ * Performs a math formula using a post fix calculator.
+ * Valid formulas are compiled into flat instructions with a precomputed stack depth on construction, so evaluating them reuses a per thread stack buffer.
+ */
+public final class PostFixFormula implements ModifierFormula {
+  private final List<StackOperation> operations;
+  private final int numArguments;
+  /** Compiled version of the formula, null if the formula is invalid in which case the interpreter will report the error */
+  @Nullable
+  private final CompiledFormula compiled;
+
+  public PostFixFormula(List<StackOperation> operations, int numArguments) {
+    this.operations = operations;
+    this.numArguments = numArguments;
+    this.compiled = CompiledFormula.compile(operations);
+  }
+
+  /** Gets the list of operations in this formula */
+  public List<StackOperation> operations() {
+    return operations;
+  }
+
+  /** Gets the number of arguments this formula expects */
+  public int numArguments() {
+    return numArguments;
+  }
+
   @Override
   public float apply(float... values) {
     // must have the right number of values to evaluate
     if (values.length != numArguments) {
       throw new IllegalArgumentException("Expected " + numArguments + " arguments, but received " + values.length);
     }
+    if (compiled != null) {
+      return compiled.apply(values);
+    }
+    return interpret(values);
+  }
+
+  /** Runs the formula using the stack based interpreter, used for formulas that failed to compile */
+  float interpret(float[] values) {
     AbstractFloatList stack = new FloatArrayList(5);
     for (StackOperation operation : operations) {
       operation.perform(stack, values);
@@ -33,6 +67,24 @@ public record PostFixFormula(List<StackOperation> operations, int numArguments)
     return stack.popFloat();
   }
 
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    return other instanceof PostFixFormula formula && numArguments == formula.numArguments && operations.equals(formula.operations);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * operations.hashCode() + numArguments;
+  }
+
+  @Override
+  public String toString() {
+    return "PostFixFormula[operations=" + operations + ", numArguments=" + numArguments + "]";
+  }
+
   @Override
   public float processLevel(ModifierEntry modifier) {
     return modifier.getEffectiveLevel();
@@ -43,7 +95,7 @@ public record PostFixFormula(List<StackOperation> operations, int numArguments)
    * @throws RuntimeException  if something is invalid in the formula
    */
   public void validateFormula() {
-    apply(new float[numArguments]);
+    interpret(new float[numArguments]);
   }
 
   /** Deserializes a formula from JSON */
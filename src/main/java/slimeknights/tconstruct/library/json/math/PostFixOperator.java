@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.util.Mth;
 
+import javax.annotation.Nullable;
+
 /** Represents 2 argument stack operations */
 @RequiredArgsConstructor
 public enum PostFixOperator implements StackOperation {
@@ -14,12 +16,7 @@ public enum PostFixOperator implements StackOperation {
   SUBTRACT("-", (left, right) -> left - right),
   SUBTRACT_FLIPPED("!-", (left, right) -> right - left),
   MULTIPLY("*", (left, right) -> left * right),
-  NEGATE("negate") {
-    @Override
-    public void perform(FloatStack stack, float[] variables) {
-      stack.push(-stack.popFloat());
-    }
-  },
+  NEGATE("negate", value -> -value),
   DIVIDE("/", (left, right) -> {
     if (right == 0) {
       return 0;
@@ -37,53 +34,12 @@ public enum PostFixOperator implements StackOperation {
   MIN("min", Math::min),
   MAX("max", Math::max),
   /** Makes the top value on the stack 0 if its negative */
-  NON_NEGATIVE("non-negative") {
-    @Override
-    public void perform(FloatStack stack, float[] variables) {
-      float value = stack.topFloat();
-      if (value < 0) {
-        stack.popFloat();
-        stack.push(0);
-      }
-    }
-  },
+  NON_NEGATIVE("non-negative", value -> value < 0 ? 0 : value),
   /** Clamps the value between 0 and 1 */
-  PERCENT_CLAMP("percent_clamp") {
-    @Override
-    public void perform(FloatStack stack, float[] variables) {
-      // could do a 1 liner, but not pushing/popping when unchanged seems more efficient
-      float value = stack.topFloat();
-      if (value < 0) {
-        stack.popFloat();
-        stack.push(0);
-      } else if (value > 1) {
-        stack.popFloat();
-        stack.push(1);
-      }
-    }
-  },
-  ABS("abs") {
-    @Override
-    public void perform(FloatStack stack, float[] variables) {
-      float value = stack.topFloat();
-      if (value < 0) {
-        stack.popFloat();
-        stack.push(-value);
-      }
-    }
-  },
-  FLOOR("floor") {
-    @Override
-    public void perform(FloatStack stack, float[] variables) {
-      stack.push(Mth.floor(stack.popFloat()));
-    }
-  },
-  CEIL("ceil") {
-    @Override
-    public void perform(FloatStack stack, float[] variables) {
-      stack.push(Mth.ceil(stack.popFloat()));
-    }
-  },
+  PERCENT_CLAMP("percent_clamp", value -> value < 0 ? 0 : value > 1 ? 1 : value),
+  ABS("abs", value -> value < 0 ? -value : value),
+  FLOOR("floor", value -> Mth.floor(value)),
+  CEIL("ceil", value -> Mth.ceil(value)),
   /** Swaps the top two elements */
   SWAP("swap") {
     @Override
@@ -93,6 +49,24 @@ public enum PostFixOperator implements StackOperation {
       stack.push(first);
       stack.push(second);
     }
+
+    @Override
+    int perform(float[] stack, int size) {
+      float first = stack[size - 1];
+      stack[size - 1] = stack[size - 2];
+      stack[size - 2] = first;
+      return size;
+    }
+
+    @Override
+    int arguments() {
+      return 2;
+    }
+
+    @Override
+    int results() {
+      return 2;
+    }
   },
   /** Copies the top element on the stack */
   DUPLICATE("duplicate") {
@@ -100,6 +74,22 @@ public enum PostFixOperator implements StackOperation {
     public void perform(FloatStack stack, float[] variables) {
       stack.push(stack.topFloat());
     }
+
+    @Override
+    int perform(float[] stack, int size) {
+      stack[size] = stack[size - 1];
+      return size + 1;
+    }
+
+    @Override
+    int arguments() {
+      return 1;
+    }
+
+    @Override
+    int results() {
+      return 2;
+    }
   };
 
   /** Index used for serializing value to the network */
@@ -110,19 +100,61 @@ public enum PostFixOperator implements StackOperation {
   /** Name of this operator when serialized into JSON */
   private final String serialized;
   /** Binary function to run, used for most operators */
+  @Nullable
   private final BinaryOperator binary;
+  /** Unary function to run, used for operators that modify the top of the stack */
+  @Nullable
+  private final UnaryOperator unary;
+
+  PostFixOperator(String serialized, BinaryOperator binary) {
+    this(serialized, binary, null);
+  }
+
+  PostFixOperator(String serialized, UnaryOperator unary) {
+    this(serialized, null, unary);
+  }
 
   PostFixOperator(String serialized) {
-    this(serialized, BinaryOperator.ZERO);
+    this(serialized, BinaryOperator.ZERO, null);
   }
 
   @Override
   public void perform(FloatStack stack, float[] variables) {
     // this may throw, but that is okay as we will run this formula during parsing to make sure its valid
     // the way formulas are setup, if it does not throw during parsing, it cannot throw ever
-    float right = stack.popFloat();
-    float left = stack.popFloat();
-    stack.push(binary.apply(left, right));
+    if (unary != null) {
+      stack.push(unary.apply(stack.popFloat()));
+    } else {
+      float right = stack.popFloat();
+      float left = stack.popFloat();
+      stack.push(binary.apply(left, right));
+    }
+  }
+
+  /**
+   * Performs this operator on a fixed size stack buffer, used by compiled formulas
+   * @param stack  Stack buffer, must have room for {@link #results()}
+   * @param size   Number of values on the stack
+   * @return  Number of values on the stack after running
+   */
+  int perform(float[] stack, int size) {
+    if (unary != null) {
+      stack[size - 1] = unary.apply(stack[size - 1]);
+      return size;
+    }
+    float right = stack[size - 1];
+    stack[size - 2] = binary.apply(stack[size - 2], right);
+    return size - 1;
+  }
+
+  /** Gets the number of values this operator removes from the stack */
+  int arguments() {
+    return unary != null ? 1 : 2;
+  }
+
+  /** Gets the number of values this operator adds to the stack */
+  int results() {
+    return 1;
   }
 
 
@@ -151,10 +183,16 @@ public enum PostFixOperator implements StackOperation {
   }
 
   /** Interface for common operators */
-  private interface BinaryOperator {
+  interface BinaryOperator {
     BinaryOperator ZERO = (left, right) -> 0;
 
     /** Applies this operator to the given values */
     float apply(float left, float right);
   }
+
+  /** Interface for operators on a single value */
+  interface UnaryOperator {
+    /** Applies this operator to the given value */
+    float apply(float value);
+  }
 }
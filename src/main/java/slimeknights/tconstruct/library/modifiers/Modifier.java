@@ -32,6 +32,7 @@ import slimeknights.tconstruct.library.utils.Util;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -326,6 +327,23 @@ public class Modifier implements IHaveLoader, IdAwareObject {
     return hooks.getOrDefault(hook);
   }
 
+  /**
+   * Checks if this modifier implements the given hook
+   * @param hook  Hook to check
+   * @return  True if the hook is implemented, false if it uses the default instance
+   */
+  public final boolean hasHook(ModuleHook<?> hook) {
+    return hooks.hasHook(hook);
+  }
+
+  /**
+   * Adds the index of each hook implemented by this modifier to the given set
+   * @param indices  Set to update, indexed by {@link ModuleHook#getIndex()}
+   */
+  public final void addHookIndices(BitSet indices) {
+    hooks.addHookIndices(indices);
+  }
+
 
   @Override
   public String toString() {
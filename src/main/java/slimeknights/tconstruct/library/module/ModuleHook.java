@@ -1,17 +1,20 @@
 package slimeknights.tconstruct.library.module;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import net.minecraft.resources.ResourceLocation;
 import slimeknights.mantle.registration.object.IdAwareObject;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 
 /** Class implementing a modifier hook, used as a key for {@link ModuleHookMap )} */
-@RequiredArgsConstructor
 public class ModuleHook<T> implements IdAwareObject {
+  /** List of all hooks created, position in the list matches {@link #getIndex()} */
+  private static final List<ModuleHook<?>> ALL_HOOKS = new ArrayList<>();
+
   /** Unique name of this hook, used for serialization */
   @Getter
   private final ResourceLocation id;
@@ -23,11 +26,36 @@ public class ModuleHook<T> implements IdAwareObject {
   /** Default instance for when a modifier does not implement this hook */
   @Getter
   private final T defaultInstance;
+  /** Dense index of this hook, allows {@link ModuleHookMap} to look up hooks in an array */
+  @Getter
+  private final int index;
+
+  public ModuleHook(ResourceLocation id, Class<T> filter, @Nullable Function<Collection<T>,T> merger, T defaultInstance) {
+    this.id = id;
+    this.filter = filter;
+    this.merger = merger;
+    this.defaultInstance = defaultInstance;
+    synchronized (ALL_HOOKS) {
+      this.index = ALL_HOOKS.size();
+      ALL_HOOKS.add(this);
+    }
+  }
 
   public ModuleHook(ResourceLocation name, Class<T> filter, T defaultInstance) {
     this(name, filter, null, defaultInstance);
   }
 
+  /** Creates an array containing the default instance of every hook created so far, indexed by {@link #getIndex()} */
+  static Object[] createDefaultArray() {
+    synchronized (ALL_HOOKS) {
+      Object[] defaults = new Object[ALL_HOOKS.size()];
+      for (int i = 0; i < defaults.length; i++) {
+        defaults[i] = ALL_HOOKS.get(i).defaultInstance;
+      }
+      return defaults;
+    }
+  }
+
   /** checks if the given module can be used for this hook */
   public boolean isValid(Object module) {
     return filter.isInstance(module);
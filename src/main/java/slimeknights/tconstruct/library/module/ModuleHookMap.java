@@ -2,11 +2,11 @@ package slimeknights.tconstruct.library.module;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.LinkedHashMultimap;
-import lombok.RequiredArgsConstructor;
 import slimeknights.mantle.data.loadable.ErrorFactory;
 import slimeknights.tconstruct.library.modifiers.impl.BasicModifier;
 
 import javax.annotation.Nullable;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -15,13 +15,35 @@ import java.util.Map.Entry;
 
 /** Logic for handling modifier and tool hooks, automatically fetching the default instance as needed. */
 @SuppressWarnings({"ClassCanBeRecord", "unused"}) // no record as we don't want the map to be public
-@RequiredArgsConstructor
 public class ModuleHookMap {
   /** Instance with no modifiers */
   public static final ModuleHookMap EMPTY = new ModuleHookMap(Collections.emptyMap());
 
   /** Internal map of modifier hook to object. It's the caller's responsibility to make sure the object is valid for the hook */
   private final Map<ModuleHook<?>,Object> modules;
+  /** Modules indexed by {@link ModuleHook#getIndex()}, null for hooks without a module */
+  private final Object[] byIndex;
+  /** Modules indexed by {@link ModuleHook#getIndex()}, with the default instance filled in for hooks without a module. Hooks created after this map fall outside the array */
+  private final Object[] withDefaults;
+  /** Set of {@link ModuleHook#getIndex()} for all hooks with a module */
+  private final BitSet hookIndices = new BitSet();
+
+  public ModuleHookMap(Map<ModuleHook<?>,Object> modules) {
+    this.modules = modules;
+    this.withDefaults = ModuleHook.createDefaultArray();
+    int size = 0;
+    for (ModuleHook<?> hook : modules.keySet()) {
+      size = Math.max(size, hook.getIndex() + 1);
+    }
+    this.byIndex = new Object[size];
+    for (Entry<ModuleHook<?>,Object> entry : modules.entrySet()) {
+      int index = entry.getKey().getIndex();
+      byIndex[index] = entry.getValue();
+      hookIndices.set(index);
+      // hooks are always created before being added to a map, so the index is always in bounds
+      withDefaults[index] = entry.getValue();
+    }
+  }
 
   /**
    * Creates a modifier hook map from the given module list
@@ -45,21 +67,35 @@ public class ModuleHookMap {
 
   /** Checks if a module is registered for the given hook */
   public boolean hasHook(ModuleHook<?> hook) {
-    return modules.containsKey(hook);
+    int index = hook.getIndex();
+    return index < byIndex.length && byIndex[index] != null;
+  }
+
+  /**
+   * Adds the index of each hook with a module to the given set
+   * @param indices  Set to update, indexed by {@link ModuleHook#getIndex()}
+   */
+  public void addHookIndices(BitSet indices) {
+    indices.or(hookIndices);
   }
 
   /** Gets the module matching the given hook, or null if not defined */
   @SuppressWarnings("unchecked")
   @Nullable
   public <T> T getOrNull(ModuleHook<T> hook) {
-    return (T)modules.get(hook);
+    int index = hook.getIndex();
+    if (index < byIndex.length) {
+      return (T)byIndex[index];
+    }
+    return null;
   }
 
   /** Gets the module matching the given hook */
+  @SuppressWarnings("unchecked")
   public <T> T getOrDefault(ModuleHook<T> hook) {
-    T object = getOrNull(hook);
-    if (object != null) {
-      return object;
+    int index = hook.getIndex();
+    if (index < withDefaults.length) {
+      return (T)withDefaults[index];
     }
     return hook.getDefaultInstance();
   }
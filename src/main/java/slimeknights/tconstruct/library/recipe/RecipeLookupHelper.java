@@ -0,0 +1,37 @@
+package slimeknights.tconstruct.library.recipe;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+
+/**
+ * Shared logic for the recipe lookups that index recipes by input item, such as {@link TinkerableRecipeLookup}.
+ * Lookup caches are keyed by side along with their inputs, as the client and server have different recipe instances.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecipeLookupHelper {
+  /**
+   * Checks if the ingredient could match a stack of the given item
+   * @param ingredient  Ingredient to check
+   * @param item        Item to check, air for an empty stack
+   * @return  False if the ingredient can never match the item
+   */
+  public static boolean canMatch(Ingredient ingredient, Item item) {
+    if (item == Items.AIR) {
+      return ingredient.test(ItemStack.EMPTY);
+    }
+    // only simple ingredients are guaranteed to list every item they match, custom ingredients may match more
+    if (!ingredient.isSimple()) {
+      return true;
+    }
+    for (ItemStack stack : ingredient.getItems()) {
+      if (stack.is(item)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,112 @@
+package slimeknights.tconstruct.library.recipe;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.AbstractModifierRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.IncrementalModifierRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.ModifierRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.MultilevelModifierRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.SwappableModifierRecipe;
+import slimeknights.tconstruct.library.recipe.tinkerstation.ITinkerStationContainer;
+import slimeknights.tconstruct.library.recipe.tinkerstation.ITinkerStationRecipe;
+import slimeknights.tconstruct.library.recipe.worktable.AbstractWorktableRecipe;
+import slimeknights.tconstruct.library.recipe.worktable.IModifierWorktableRecipe;
+import slimeknights.tconstruct.library.recipe.worktable.ModifierSetWorktableRecipe;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookup from the tool item in a tinker station or modifier worktable to the recipes that could possibly match it, to avoid calling matches on every recipe when the inventory changes.
+ * Candidates are kept in recipe manager order, so the first matching candidate is the same recipe the recipe manager would find.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TinkerableRecipeLookup {
+  /** Modifier recipe classes known to require their tool ingredient to match. Subclasses may override matches, so they are not filtered */
+  private static final Set<Class<?>> MODIFIER_RECIPES = Set.of(ModifierRecipe.class, IncrementalModifierRecipe.class, MultilevelModifierRecipe.class, SwappableModifierRecipe.class);
+  /** Worktable recipe classes known to require their tool ingredient to match */
+  private static final Set<Class<?>> WORKTABLE_RECIPES = Set.of(ModifierSetWorktableRecipe.class);
+
+  /** Key for recipe candidates, tool is air if the tool slot is empty. Client and server are separate as they have different recipe instances */
+  private record Key(boolean client, RecipeType<?> type, Item tool) {}
+
+  /** Recipe candidates for each key */
+  private static final Map<Key,List<?>> CANDIDATES = new ConcurrentHashMap<>();
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> CANDIDATES.clear());
+  }
+
+  /** Checks if the recipe could match the given tool item */
+  private static boolean canMatch(Recipe<?> recipe, Item tool) {
+    Class<?> clazz = recipe.getClass();
+    if (MODIFIER_RECIPES.contains(clazz)) {
+      return RecipeLookupHelper.canMatch(((AbstractModifierRecipe)recipe).getToolRequirement(), tool);
+    }
+    if (WORKTABLE_RECIPES.contains(clazz)) {
+      return RecipeLookupHelper.canMatch(((AbstractWorktableRecipe)recipe).getToolRequirement(), tool);
+    }
+    // unknown recipe types cannot be filtered
+    return true;
+  }
+
+  /** Gets the list of candidates for the given side, type, and tool */
+  @SuppressWarnings("unchecked")
+  private static <C extends Container, R extends Recipe<C>> List<R> getCandidates(RecipeManager manager, boolean client, RecipeType<R> type, Class<R> clazz, Item tool) {
+    return (List<R>) CANDIDATES.computeIfAbsent(new Key(client, type, tool), key -> {
+      List<R> candidates = new ArrayList<>();
+      for (R recipe : RecipeHelper.getRecipes(manager, type, clazz)) {
+        if (canMatch(recipe, tool)) {
+          candidates.add(recipe);
+        }
+      }
+      return candidates.isEmpty() ? List.of() : candidates;
+    });
+  }
+
+  /**
+   * Finds the first tinker station recipe matching the given inventory
+   * @param manager  Recipe manager
+   * @param inv      Tinker station inventory
+   * @param level    Level instance
+   * @return  Recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static ITinkerStationRecipe findTinkerStationRecipe(RecipeManager manager, ITinkerStationContainer inv, Level level) {
+    for (ITinkerStationRecipe recipe : getCandidates(manager, level.isClientSide, TinkerRecipeTypes.TINKER_STATION.get(), ITinkerStationRecipe.class, inv.getTinkerableStack().getItem())) {
+      if (recipe.matches(inv, level)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the first modifier worktable recipe matching the given inventory
+   * @param manager  Recipe manager
+   * @param inv      Worktable inventory
+   * @param level    Level instance
+   * @return  Recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static IModifierWorktableRecipe findWorktableRecipe(RecipeManager manager, ITinkerableContainer inv, Level level) {
+    for (IModifierWorktableRecipe recipe : getCandidates(manager, level.isClientSide, TinkerRecipeTypes.MODIFIER_WORKTABLE.get(), IModifierWorktableRecipe.class, inv.getTinkerableStack().getItem())) {
+      if (recipe.matches(inv, level)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,166 @@
+package slimeknights.tconstruct.library.recipe.alloying;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup indexing alloy recipes by their input fluids, so alloy tanks only need to check recipes whose inputs are all present.
+ * Each fluid used in any recipe is assigned an index, allowing the fluids in a tank to be represented as a bitset.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlloyRecipeLookup {
+  /** Current index, null if it needs to be rebuilt */
+  @Nullable
+  private static volatile Index index = null;
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> index = null);
+  }
+
+  /** Gets the index, building it if missing */
+  private static Index getIndex(RecipeManager manager) {
+    Index current = index;
+    if (current == null) {
+      current = new Index(RecipeHelper.getRecipes(manager, TinkerRecipeTypes.ALLOYING.get(), AlloyRecipe.class));
+      index = current;
+    }
+    return current;
+  }
+
+  /**
+   * Gets a bitset of all indexed fluids present in the given tank
+   * @param manager  Recipe manager
+   * @param tank     Tank to check
+   * @return  Bitset of present fluids
+   */
+  public static BitSet getPresentFluids(RecipeManager manager, IAlloyTank tank) {
+    return getIndex(manager).getPresentFluids(tank);
+  }
+
+  /**
+   * Checks if the recipe has a fluid present for each of its inputs
+   * @param manager  Recipe manager
+   * @param recipe   Recipe to check
+   * @param present  Fluids present from {@link #getPresentFluids(RecipeManager, IAlloyTank)}
+   * @return  True if all inputs have a matching fluid
+   */
+  public static boolean hasInputs(RecipeManager manager, AlloyRecipe recipe, BitSet present) {
+    return getIndex(manager).hasInputs(recipe, present);
+  }
+
+  /**
+   * Gets all recipes that use the given fluid as any of their inputs
+   * @param manager  Recipe manager
+   * @param fluid    Fluid to check
+   * @return  List of recipes using the fluid
+   */
+  public static List<AlloyRecipe> getRecipesUsing(RecipeManager manager, Fluid fluid) {
+    return getIndex(manager).byFluid.getOrDefault(fluid, List.of());
+  }
+
+  /**
+   * Finds all recipes that match the given tank
+   * @param tank   Tank to check
+   * @param level  Level instance
+   * @return  Mutable list of matching recipes, in recipe manager order
+   */
+  public static List<AlloyRecipe> findRecipes(IAlloyTank tank, Level level) {
+    Index index = getIndex(level.getRecipeManager());
+    BitSet present = index.getPresentFluids(tank);
+    List<AlloyRecipe> matches = new ArrayList<>();
+    if (!present.isEmpty()) {
+      for (AlloyRecipe recipe : index.recipes) {
+        if (index.hasInputs(recipe, present) && recipe.matches(tank, level)) {
+          matches.add(recipe);
+        }
+      }
+    }
+    return matches;
+  }
+
+  /** Built lookup data for a single recipe reload */
+  private static class Index {
+    /** All recipes in recipe manager order */
+    private final List<AlloyRecipe> recipes;
+    /** Index for each fluid used in any recipe */
+    private final Object2IntMap<Fluid> fluidIds = new Object2IntOpenHashMap<>();
+    /** Recipes using each fluid */
+    private final Map<Fluid,List<AlloyRecipe>> byFluid = new HashMap<>();
+    /** Bitset of fluids matching each input of the recipe */
+    private final Map<AlloyRecipe,BitSet[]> inputMasks = new IdentityHashMap<>();
+
+    private Index(List<AlloyRecipe> recipes) {
+      this.recipes = recipes;
+      fluidIds.defaultReturnValue(-1);
+      for (AlloyRecipe recipe : recipes) {
+        List<List<FluidStack>> inputs = recipe.getDisplayInputs();
+        BitSet[] masks = new BitSet[inputs.size()];
+        for (int i = 0; i < masks.length; i++) {
+          BitSet mask = new BitSet();
+          for (FluidStack stack : inputs.get(i)) {
+            Fluid fluid = stack.getFluid();
+            int id = fluidIds.getInt(fluid);
+            if (id == -1) {
+              id = fluidIds.size();
+              fluidIds.put(fluid, id);
+            }
+            mask.set(id);
+            List<AlloyRecipe> using = byFluid.computeIfAbsent(fluid, f -> new ArrayList<>());
+            if (using.isEmpty() || using.get(using.size() - 1) != recipe) {
+              using.add(recipe);
+            }
+          }
+          masks[i] = mask;
+        }
+        inputMasks.put(recipe, masks);
+      }
+    }
+
+    /** Gets a bitset of all indexed fluids in the tank */
+    private BitSet getPresentFluids(IAlloyTank tank) {
+      BitSet present = new BitSet(fluidIds.size());
+      for (int i = 0; i < tank.getTanks(); i++) {
+        FluidStack fluid = tank.getFluidInTank(i);
+        if (!fluid.isEmpty()) {
+          int id = fluidIds.getInt(fluid.getFluid());
+          if (id != -1) {
+            present.set(id);
+          }
+        }
+      }
+      return present;
+    }
+
+    /** Checks if each input of the recipe has a present fluid */
+    private boolean hasInputs(AlloyRecipe recipe, BitSet present) {
+      BitSet[] masks = inputMasks.get(recipe);
+      // recipe was not part of this index, so we cannot filter it
+      if (masks == null) {
+        return true;
+      }
+      for (BitSet mask : masks) {
+        if (!mask.intersects(present)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package slimeknights.tconstruct.library.recipe.casting;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeLookupHelper;
+import slimeknights.tconstruct.library.recipe.casting.material.CompositeCastingRecipe;
+import slimeknights.tconstruct.library.recipe.casting.material.MaterialCastingRecipe;
+import slimeknights.tconstruct.library.recipe.casting.material.ToolCastingRecipe;
+import slimeknights.tconstruct.library.recipe.molding.IMoldingContainer;
+import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookup from a cast item and fluid to the casting recipes that could possibly match them, to avoid scanning the full recipe list on each pour.
+ * Also handles molding recipes keyed by the material item. Candidates are kept in recipe manager order.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CastingRecipeLookup {
+  /** Casting recipe classes whose matches requires the cast ingredient to match. Subclasses may override matches, so they are not filtered */
+  private static final Set<Class<?>> CAST_RECIPES = Set.of(ItemCastingRecipe.class, MaterialCastingRecipe.class, CompositeCastingRecipe.class);
+
+  /** Key for casting recipe candidates, cast is air if there is no cast. Client and server are separate as they have different recipe instances */
+  private record CastingKey(boolean client, RecipeType<ICastingRecipe> type, Item cast, Fluid fluid) {}
+  /** Key for molding recipe candidates */
+  private record MoldingKey(boolean client, RecipeType<MoldingRecipe> type, Item material) {}
+
+  /** Casting recipe candidates for each key */
+  private static final Map<CastingKey,List<ICastingRecipe>> CASTING = new ConcurrentHashMap<>();
+  /** Molding recipe candidates for each key */
+  private static final Map<MoldingKey,List<MoldingRecipe>> MOLDING = new ConcurrentHashMap<>();
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> {
+      CASTING.clear();
+      MOLDING.clear();
+    });
+  }
+
+  /**
+   * Checks if the recipe could match the given cast and fluid
+   * @param recipe  Recipe to check
+   * @param cast    Cast item, air for no cast
+   * @param fluid   Fluid in the casting block
+   * @return  False if the recipe can never match
+   */
+  @VisibleForTesting
+  static boolean canMatch(ICastingRecipe recipe, Item cast, Fluid fluid) {
+    Class<?> clazz = recipe.getClass();
+    // tool casting skips the cast ingredient when part swapping
+    if (clazz == ToolCastingRecipe.class) {
+      ToolCastingRecipe toolCasting = (ToolCastingRecipe)recipe;
+      return toolCasting.isPartSwapping(cast) || RecipeLookupHelper.canMatch(toolCasting.getCast(), cast);
+    }
+    if (CAST_RECIPES.contains(clazz)) {
+      if (!RecipeLookupHelper.canMatch(((AbstractCastingRecipe)recipe).getCast(), cast)) {
+        return false;
+      }
+      // material recipes check the fluid using their own lookup, so only item recipes filter fluid
+      if (clazz == ItemCastingRecipe.class) {
+        return ((ItemCastingRecipe)recipe).getFluid().test(fluid);
+      }
+    }
+    // unknown recipe types cannot be filtered
+    return true;
+  }
+
+  /** Computes the list of candidates for the given key */
+  private static List<ICastingRecipe> computeCasting(RecipeManager manager, CastingKey key) {
+    List<ICastingRecipe> candidates = new ArrayList<>();
+    for (ICastingRecipe recipe : RecipeHelper.getRecipes(manager, key.type, ICastingRecipe.class)) {
+      if (canMatch(recipe, key.cast, key.fluid)) {
+        candidates.add(recipe);
+      }
+    }
+    return candidates.isEmpty() ? List.of() : candidates;
+  }
+
+  /**
+   * Finds the first casting recipe matching the given inventory
+   * @param type   Recipe type to search
+   * @param inv    Casting inventory
+   * @param level  Level instance
+   * @return  Recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static ICastingRecipe findCastingRecipe(RecipeType<ICastingRecipe> type, ICastingContainer inv, Level level) {
+    RecipeManager manager = level.getRecipeManager();
+    CastingKey key = new CastingKey(level.isClientSide, type, inv.getStack().getItem(), inv.getFluid());
+    for (ICastingRecipe recipe : CASTING.computeIfAbsent(key, k -> computeCasting(manager, k))) {
+      if (recipe.matches(inv, level)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+
+  /** Computes the list of candidates for the given key */
+  private static List<MoldingRecipe> computeMolding(RecipeManager manager, MoldingKey key) {
+    List<MoldingRecipe> candidates = new ArrayList<>();
+    for (MoldingRecipe recipe : RecipeHelper.getRecipes(manager, key.type, MoldingRecipe.class)) {
+      if (RecipeLookupHelper.canMatch(recipe.getMaterial(), key.material)) {
+        candidates.add(recipe);
+      }
+    }
+    return candidates.isEmpty() ? List.of() : candidates;
+  }
+
+  /**
+   * Finds the first molding recipe matching the given inventory
+   * @param type   Recipe type to search
+   * @param inv    Molding inventory
+   * @param level  Level instance
+   * @return  Recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static MoldingRecipe findMoldingRecipe(RecipeType<MoldingRecipe> type, IMoldingContainer inv, Level level) {
+    RecipeManager manager = level.getRecipeManager();
+    MoldingKey key = new MoldingKey(level.isClientSide, type, inv.getMaterial().getItem());
+    for (MoldingRecipe recipe : MOLDING.computeIfAbsent(key, k -> computeMolding(manager, k))) {
+      if (recipe.matches(inv, level)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+}
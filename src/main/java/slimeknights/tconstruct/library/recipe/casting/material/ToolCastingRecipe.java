@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.library.recipe.casting.material;
 
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeType;
@@ -86,11 +87,20 @@ public class ToolCastingRecipe extends AbstractMaterialCastingRecipe implements
     return MaterialFluidRecipe.EMPTY;
   }
 
+  /**
+   * Checks if the given cast item is part swapping, which ignores the cast ingredient
+   * @param cast  Item in the cast slot
+   * @return  True if the item is this recipe's tool
+   */
+  public boolean isPartSwapping(Item cast) {
+    return cast == result.asItem();
+  }
+
   @Override
   public boolean matches(ICastingContainer inv, Level level) {
     ItemStack cast = inv.getStack();
     // tool match is used for part swapping
-    boolean partSwapping = cast.getItem() == result.asItem();
+    boolean partSwapping = isPartSwapping(cast.getItem());
     if (!partSwapping && !this.getCast().test(cast)) {
       return false;
     }
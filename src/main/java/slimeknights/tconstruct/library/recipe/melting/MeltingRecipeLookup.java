@@ -0,0 +1,101 @@
+package slimeknights.tconstruct.library.recipe.melting;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeLookupHelper;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.tools.part.IMaterialItem;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookup from an item to all melting recipes that could possibly match it, to avoid scanning the full recipe list on a miss.
+ * Candidates are kept in recipe manager order, so the first match is the same recipe {@link RecipeManager#getRecipeFor} would return.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeltingRecipeLookup {
+  /** Melting recipe classes whose matches only tests the input ingredient. Subclasses may override matches, so they are not filtered */
+  private static final Set<Class<?>> INPUT_RECIPES = Set.of(MeltingRecipe.class, OreMeltingRecipe.class, DamageableMeltingRecipe.class);
+  /** Key for recipe candidates, client and server are separate as they have different recipe instances */
+  private record Key(boolean client, Item item) {}
+
+  /** Map of item to all recipes that may match that item, empty list means nothing can melt the item */
+  private static final Map<Key,List<IMeltingRecipe>> CANDIDATES = new ConcurrentHashMap<>();
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> CANDIDATES.clear());
+  }
+
+  /**
+   * Checks if the given recipe could possibly match the given item
+   * @param recipe  Recipe to check
+   * @param item    Item to check
+   * @return  True if the recipe could match, false if it can never match
+   */
+  private static boolean canMatch(IMeltingRecipe recipe, Item item) {
+    // exact class checks as subclasses may override matches
+    Class<?> clazz = recipe.getClass();
+    if (INPUT_RECIPES.contains(clazz)) {
+      return RecipeLookupHelper.canMatch(((MeltingRecipe)recipe).getInput(), item);
+    }
+    // material melting only works on material items
+    if (clazz == MaterialMeltingRecipe.class) {
+      return item instanceof IMaterialItem;
+    }
+    // unknown recipe types cannot be filtered
+    return true;
+  }
+
+  /** Computes the list of candidates for the given item */
+  private static List<IMeltingRecipe> computeCandidates(RecipeManager manager, Item item) {
+    List<IMeltingRecipe> candidates = new ArrayList<>();
+    for (IMeltingRecipe recipe : RecipeHelper.getRecipes(manager, TinkerRecipeTypes.MELTING.get(), IMeltingRecipe.class)) {
+      if (canMatch(recipe, item)) {
+        candidates.add(recipe);
+      }
+    }
+    return candidates.isEmpty() ? List.of() : candidates;
+  }
+
+  /**
+   * Gets all recipes that may match the given item
+   * @param manager  Recipe manager
+   * @param client   If true, the manager is the client recipe manager
+   * @param item     Item to lookup
+   * @return  List of candidate recipes, may be empty
+   */
+  public static List<IMeltingRecipe> getCandidates(RecipeManager manager, boolean client, Item item) {
+    return CANDIDATES.computeIfAbsent(new Key(client, item), key -> computeCandidates(manager, key.item));
+  }
+
+  /**
+   * Finds the first melting recipe matching the given inventory
+   * @param inv    Inventory to match
+   * @param level  Level instance
+   * @return  Recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static IMeltingRecipe findRecipe(IMeltingContainer inv, Level level) {
+    ItemStack stack = inv.getStack();
+    if (stack.isEmpty()) {
+      return null;
+    }
+    for (IMeltingRecipe recipe : getCandidates(level.getRecipeManager(), level.isClientSide, stack.getItem())) {
+      if (recipe.matches(inv, level)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+}
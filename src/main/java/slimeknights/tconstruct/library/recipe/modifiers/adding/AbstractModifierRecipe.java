@@ -58,6 +58,7 @@ public abstract class AbstractModifierRecipe implements ITinkerStationRecipe, ID
   @Getter
   private final ResourceLocation id;
   /** Ingredient representing the required tool, typically a tag */
+  @Getter
   protected final Ingredient toolRequirement;
   /** Max size of the tool for this modifier. If the tool size is smaller, the stack will reduce by less */
   protected final int maxToolSize;
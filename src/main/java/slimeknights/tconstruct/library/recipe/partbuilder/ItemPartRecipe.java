@@ -44,6 +44,8 @@ public class ItemPartRecipe implements IDisplayPartBuilderRecipe {
   private final MaterialVariant material;
   @Getter
   private final Pattern pattern;
+  /** Ingredient matching the pattern slot item */
+  @Getter
   private final Ingredient patternItem;
   @Getter
   private final int cost;
@@ -0,0 +1,123 @@
+package slimeknights.tconstruct.library.recipe.partbuilder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeLookupHelper;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookup for the part builder recipes and sorted pattern buttons available for the given inputs, shared between all part builders.
+ * Recipes are indexed by pattern item, and results are cached by pattern and material item when neither stack has NBT as those inputs always give the same result.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PartBuilderRecipeLookup {
+  /** No recipes available */
+  public static final PatternRecipes EMPTY = new PatternRecipes(Collections.emptyMap(), Collections.emptyList());
+
+  /** Key for recipes by pattern, client and server are separate as they have different recipe instances */
+  private record PatternKey(boolean client, Item pattern) {}
+  /** Key for results by inputs */
+  private record InputKey(boolean client, Item pattern, Item material) {}
+
+  /** Recipes that may match each pattern item, sorted by ID */
+  private static final Map<PatternKey,List<IPartBuilderRecipe>> BY_PATTERN = new ConcurrentHashMap<>();
+  /** Results for inputs without NBT */
+  private static final Map<InputKey,PatternRecipes> RESULTS = new ConcurrentHashMap<>();
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> {
+      BY_PATTERN.clear();
+      RESULTS.clear();
+    });
+  }
+
+  /**
+   * Recipes available for a set of inputs
+   * @param recipes         Recipe for each available pattern
+   * @param sortedButtons   Available patterns sorted by cost then by name
+   */
+  public record PatternRecipes(Map<Pattern,IPartBuilderRecipe> recipes, List<Pattern> sortedButtons) {}
+
+  /** Checks if the recipe could match the given pattern item */
+  private static boolean canMatchPattern(IPartBuilderRecipe recipe, Item pattern) {
+    Ingredient ingredient;
+    // exact class checks as subclasses may override partial match
+    if (recipe.getClass() == PartRecipe.class) {
+      ingredient = ((PartRecipe)recipe).getPatternItem();
+    } else if (recipe.getClass() == ItemPartRecipe.class) {
+      ingredient = ((ItemPartRecipe)recipe).getPatternItem();
+    } else {
+      // unknown recipe types cannot be filtered
+      return true;
+    }
+    return RecipeLookupHelper.canMatch(ingredient, pattern);
+  }
+
+  /** Computes the list of recipes for the given pattern item */
+  private static List<IPartBuilderRecipe> computeByPattern(RecipeManager manager, Item pattern) {
+    List<IPartBuilderRecipe> candidates = new ArrayList<>();
+    for (IPartBuilderRecipe recipe : RecipeHelper.getRecipes(manager, TinkerRecipeTypes.PART_BUILDER.get(), IPartBuilderRecipe.class)) {
+      if (canMatchPattern(recipe, pattern)) {
+        candidates.add(recipe);
+      }
+    }
+    // sort by ID so the first recipe for each pattern is consistent
+    candidates.sort(Comparator.comparing(Recipe::getId));
+    return candidates;
+  }
+
+  /** Computes the recipes for the given inventory */
+  private static PatternRecipes compute(RecipeManager manager, boolean client, IPartBuilderContainer inv) {
+    List<IPartBuilderRecipe> candidates = BY_PATTERN.computeIfAbsent(new PatternKey(client, inv.getPatternStack().getItem()), key -> computeByPattern(manager, key.pattern));
+    // fetch all recipes that can match these inputs, the map ensures the patterns are unique
+    Map<Pattern,IPartBuilderRecipe> recipes = new HashMap<>();
+    for (IPartBuilderRecipe recipe : candidates) {
+      if (recipe.partialMatch(inv)) {
+        recipe.getPatterns(inv).forEach(pattern -> recipes.putIfAbsent(pattern, recipe));
+      }
+    }
+    if (recipes.isEmpty()) {
+      return EMPTY;
+    }
+    List<Pattern> sortedButtons = recipes.entrySet()
+                                         .stream()
+                                         .sorted(Comparator.<Entry<Pattern,IPartBuilderRecipe>>comparingInt(ent -> ent.getValue().getCost()).thenComparing(Entry::getKey))
+                                         .map(Entry::getKey).toList();
+    return new PatternRecipes(Collections.unmodifiableMap(recipes), sortedButtons);
+  }
+
+  /**
+   * Gets the recipes available for the given inventory
+   * @param level  Level instance
+   * @param inv    Part builder inventory, should have a pattern
+   * @return  Available recipes and sorted buttons
+   */
+  public static PatternRecipes getRecipes(Level level, IPartBuilderContainer inv) {
+    RecipeManager manager = level.getRecipeManager();
+    boolean client = level.isClientSide;
+    ItemStack pattern = inv.getPatternStack();
+    ItemStack material = inv.getStack();
+    // stacks with NBT may match differently, such as tool parts and tools for recycling
+    if (!pattern.hasTag() && !material.hasTag()) {
+      return RESULTS.computeIfAbsent(new InputKey(client, pattern.getItem(), material.getItem()), key -> compute(manager, client, inv));
+    }
+    return compute(manager, client, inv);
+  }
+}
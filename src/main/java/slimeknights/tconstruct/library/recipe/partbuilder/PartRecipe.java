@@ -50,6 +50,8 @@ public class PartRecipe implements IPartBuilderRecipe, IMultiRecipe<ItemPartReci
   protected final String group;
   @Getter
   protected final Pattern pattern;
+  /** Ingredient matching the pattern slot item */
+  @Getter
   protected final Ingredient patternItem;
   /** Recipe material cost */
   @Getter
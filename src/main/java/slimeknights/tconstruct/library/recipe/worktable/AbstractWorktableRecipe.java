@@ -33,6 +33,7 @@ public abstract class AbstractWorktableRecipe implements IModifierWorktableRecip
 
   @Getter
   private final ResourceLocation id;
+  @Getter
   protected final Ingredient toolRequirement;
   protected final List<SizedIngredient> inputs;
 
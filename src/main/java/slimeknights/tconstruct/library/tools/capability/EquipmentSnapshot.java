@@ -0,0 +1,99 @@
+package slimeknights.tconstruct.library.tools.capability;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+import slimeknights.tconstruct.library.module.ModuleHook;
+import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
+import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+
+import javax.annotation.Nullable;
+import java.util.BitSet;
+
+import static slimeknights.tconstruct.common.TinkerTags.Items.MODIFIABLE;
+
+/**
+ * Snapshot of the modifiable tools equipped on an entity, shared between all equipment hooks running in the same tick.
+ * Tools are reparsed each tick, or whenever the stack or its modifiers are replaced within the tick.
+ * Obtain an instance through {@link #get(LivingEntity)}.
+ */
+public class EquipmentSnapshot {
+  private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+
+  /** Game time of the last update, tools from an earlier tick are reparsed */
+  private long gameTime = Long.MIN_VALUE;
+  /** Stack in each slot as of the last update, indexed by {@link EquipmentSlot#getFilterFlag()} */
+  private final ItemStack[] stacks = new ItemStack[SLOTS.length];
+  /** Modifier tag in each slot as of the last update, used to detect modifiers changing without the stack changing */
+  private final Tag[] modifierTags = new Tag[SLOTS.length];
+  /** Tool in each slot, null if the slot is not modifiable */
+  private final IToolStackView[] tools = new IToolStackView[SLOTS.length];
+  /** Hooks implemented by any modifier on any equipped tool, indexed by {@link ModuleHook#getIndex()} */
+  private final BitSet hooks = new BitSet();
+
+  /**
+   * Gets the equipment snapshot for the given entity, updated for the current tick
+   * @param entity  Entity to fetch
+   * @return  Snapshot for the entity. If the entity lacks tinker data, a new snapshot that will not be reused
+   */
+  public static EquipmentSnapshot get(LivingEntity entity) {
+    EquipmentSnapshot snapshot = entity.getCapability(TinkerDataCapability.CAPABILITY).map(TinkerDataCapability.Holder::getEquipment).orElseGet(EquipmentSnapshot::new);
+    snapshot.update(entity);
+    return snapshot;
+  }
+
+  /** Gets the modifiers tag from the stack */
+  @Nullable
+  private static Tag getModifierTag(ItemStack stack) {
+    CompoundTag nbt = stack.getTag();
+    return nbt == null ? null : nbt.get(ToolStack.TAG_MODIFIERS);
+  }
+
+  /** Updates the snapshot with the entity's current equipment */
+  private void update(LivingEntity entity) {
+    long time = entity.level.getGameTime();
+    boolean newTick = time != gameTime;
+    gameTime = time;
+    boolean changed = false;
+    for (EquipmentSlot slot : SLOTS) {
+      int index = slot.getFilterFlag();
+      ItemStack stack = entity.getItemBySlot(slot);
+      Tag modifierTag = getModifierTag(stack);
+      if (newTick || stacks[index] != stack || modifierTags[index] != modifierTag) {
+        stacks[index] = stack;
+        modifierTags[index] = modifierTag;
+        tools[index] = !stack.isEmpty() && stack.is(MODIFIABLE) ? ToolStack.from(stack) : null;
+        changed = true;
+      }
+    }
+    if (changed) {
+      hooks.clear();
+      for (IToolStackView tool : tools) {
+        if (tool != null) {
+          tool.getModifiers().addHookIndices(hooks);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the tool in the given slot
+   * @param slot  Slot to fetch
+   * @return  Tool in the slot, or null if the slot is not modifiable
+   */
+  @Nullable
+  public IToolStackView getTool(EquipmentSlot slot) {
+    return tools[slot.getFilterFlag()];
+  }
+
+  /**
+   * Checks if any modifier on any equipped tool implements the given hook. Useful to skip entities whose equipment does not respond to an event.
+   * @param hook  Hook to check
+   * @return  True if the hook is implemented by any equipped tool
+   */
+  public boolean hasHook(ModuleHook<?> hook) {
+    return hooks.get(hook.getIndex());
+  }
+}
@@ -121,6 +121,9 @@ public class TinkerDataCapability {
   /** Data class holding the tinker data */
   public static class Holder {
     private final Map<TinkerDataKey<?>, Object> data = new IdentityHashMap<>();
+    /** Snapshot of equipped tools, shared by equipment hooks in the same tick */
+    @Getter
+    private final EquipmentSnapshot equipment = new EquipmentSnapshot();
 
     /**
      * Adds a value to the holder
@@ -6,6 +6,8 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.util.LazyOptional;
+import slimeknights.tconstruct.library.module.ModuleHook;
+import slimeknights.tconstruct.library.tools.capability.EquipmentSnapshot;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
 import slimeknights.tconstruct.library.tools.helper.ModifierUtil;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
@@ -27,6 +29,8 @@ public class EquipmentContext {
   protected final IToolStackView[] toolsInSlots = new IToolStackView[6];
   /** Cached tinker data capability, saves capability lookup times slightly */
   private LazyOptional<TinkerDataCapability.Holder> tinkerData = null;
+  /** Snapshot of the entity equipment, fetched when first needed */
+  private EquipmentSnapshot equipment = null;
 
   /** Creates a context with an existing tool instance */
   public static EquipmentContext withTool(LivingEntity living, IToolStackView tool, EquipmentSlot slot) {
@@ -55,12 +59,30 @@ public class EquipmentContext {
   public IToolStackView getToolInSlot(EquipmentSlot slotType) {
     int index = slotType.getFilterFlag();
     if (!fetchedTool[index]) {
-      toolsInSlots[index] = getToolStackIfModifiable(entity.getItemBySlot(slotType));
+      toolsInSlots[index] = getEquipment().getTool(slotType);
       fetchedTool[index] = true;
     }
     return toolsInSlots[index];
   }
 
+  /** Gets the equipment snapshot for the entity, shared with other hooks this tick */
+  protected EquipmentSnapshot getEquipment() {
+    if (equipment == null) {
+      equipment = EquipmentSnapshot.get(entity);
+    }
+    return equipment;
+  }
+
+  /**
+   * Checks if any tool equipped on the entity has a modifier implementing the given hook, regardless of slot validity.
+   * If false, running the hook on every slot will do nothing.
+   * @param hook  Hook to check
+   * @return  True if the hook may need to run
+   */
+  public boolean hasHook(ModuleHook<?> hook) {
+    return getEquipment().hasHook(hook);
+  }
+
   /** Same as {@link #getToolInSlot(EquipmentSlot)}, but validates that the tool can be used in this slot */
   @Nullable
   public IToolStackView getValidTool(EquipmentSlot slotType) {
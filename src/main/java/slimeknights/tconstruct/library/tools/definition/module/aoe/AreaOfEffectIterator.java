@@ -65,12 +65,14 @@ public interface AreaOfEffectIterator {
    * @return  Predicate for AOE block matching
    */
   static Predicate<BlockPos> defaultBlockPredicate(IToolStackView tool, ItemStack stack, Level world, BlockPos origin, AOEMatchType matchType) {
+    // positions are clustered, so avoid looking up the chunk for each block
+    ChunkCachedBlockGetter blocks = new ChunkCachedBlockGetter(world);
     // requires effectiveness
     if (matchType == AOEMatchType.BREAKING) {
       // don't let hardness vary too much
       float refHardness = world.getBlockState(origin).getDestroySpeed(world, origin);
       return pos -> {
-        BlockState state = world.getBlockState(pos);
+        BlockState state = blocks.getBlockState(pos);
         if (state.isAir()) {
           return false;
         }
@@ -79,17 +81,27 @@ public interface AreaOfEffectIterator {
         if (hardness == -1) {
           return false;
         }
-        if (refHardness == 0 ? hardness == 0 : hardness / refHardness <= 3) {
+        if (isHardnessInRange(refHardness, hardness)) {
           // must not be broken, and the tool definition must be effective
           return IsEffectiveToolHook.isEffective(tool, state);
         }
         return false;
       };
     } else {
-      return pos -> !world.isEmptyBlock(pos);
+      return pos -> !blocks.getBlockState(pos).isAir();
     }
   }
 
+  /**
+   * Checks if the hardness of an AOE block is close enough to the hardness of the origin block to break it
+   * @param refHardness  Hardness of the origin block
+   * @param hardness     Hardness of the AOE block
+   * @return  True if the block may be broken
+   */
+  static boolean isHardnessInRange(float refHardness, float hardness) {
+    return refHardness == 0 ? hardness == 0 : hardness / refHardness <= 3;
+  }
+
   /** Match types for the AOE getter */
   enum AOEMatchType {
     /** Used when the block is being broken, typically matches only harvestable blocks
@@ -0,0 +1,38 @@
+package slimeknights.tconstruct.library.tools.definition.module.aoe;
+
+import lombok.RequiredArgsConstructor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Fetches block states for area of effect logic, keeping the most recent chunk to skip the chunk lookup for each position.
+ * AOE positions are clustered, so the majority of lookups hit the same chunk. Should not be kept beyond the current tick as the chunk may unload.
+ */
+@RequiredArgsConstructor
+public class ChunkCachedBlockGetter {
+  private final Level level;
+  /** Most recently used chunk */
+  @Nullable
+  private LevelChunk chunk;
+
+  /** Gets the block state at the given position, matches {@link Level#getBlockState(BlockPos)} */
+  public BlockState getBlockState(BlockPos pos) {
+    if (level.isOutsideBuildHeight(pos)) {
+      return Blocks.VOID_AIR.defaultBlockState();
+    }
+    int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+    int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+    LevelChunk chunk = this.chunk;
+    if (chunk == null || chunk.getPos().x != chunkX || chunk.getPos().z != chunkZ) {
+      chunk = level.getChunk(chunkX, chunkZ);
+      this.chunk = chunk;
+    }
+    return chunk.getBlockState(pos);
+  }
+}
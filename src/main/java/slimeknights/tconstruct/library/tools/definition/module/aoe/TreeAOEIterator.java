@@ -1,6 +1,8 @@
 package slimeknights.tconstruct.library.tools.definition.module.aoe;
 
 import com.google.common.collect.AbstractIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Direction.Plane;
@@ -15,9 +17,7 @@ import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
 import java.util.ArrayDeque;
-import java.util.HashSet;
 import java.util.Queue;
-import java.util.Set;
 
 /**
  * Tree harvest logic that destroys a tree
@@ -91,15 +91,15 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
     private final Queue<TreePos> upcomingPositions = new ArrayDeque<>();
     /** Position for returns, saves some object allocation */
     private final BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-    /** Branches that have been visited already */
-    private final Set<BlockPos> branchVisited = new HashSet<>();
+    /** Branches that have been visited already, packed using {@link BlockPos#asLong()} */
+    private final LongSet branchVisited = new LongOpenHashSet();
 
-    private final Level world;
+    private final ChunkCachedBlockGetter blocks;
     private final Block filter;
     /** Bounds for branch detection */
     private final int minX, maxX, minZ, maxZ;
     public TreeIterator(Level world, Block filter, BlockPos origin, Direction widthDir, int extraWidth, Direction depthDir, int extraDepth) {
-      this.world = world;
+      this.blocks = new ChunkCachedBlockGetter(world);
       this.filter = filter;
 
       // first, enqueue the origin
@@ -137,7 +137,7 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
 
     /** Checks if the position matches the filter block */
     private boolean isValidBlock(BlockPos pos) {
-      return world.getBlockState(pos).getBlock() == filter;
+      return blocks.getBlockState(pos).getBlock() == filter;
     }
 
     /** Checks if the block position outside the original tree */
@@ -153,10 +153,9 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
       // find the distance to the nearest corner
       int deltaX = Math.min(Math.abs(pos.getX() - minX), Math.abs(pos.getX() - maxX));
       int deltaZ = Math.min(Math.abs(pos.getZ() - minZ), Math.abs(pos.getZ() - maxZ));
-      if ((deltaX + deltaZ) > MAX_BRANCH_DISTANCE || branchVisited.contains(pos)) {
+      if ((deltaX + deltaZ) > MAX_BRANCH_DISTANCE || !branchVisited.add(pos.asLong())) {
         return false;
       }
-      branchVisited.add(pos.immutable());
       return isValidBlock(pos);
     }
 
@@ -172,7 +171,7 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
         // copies position, so safe to change after
         TreePos branchPos = new TreePos(mutable, direction);
         // must have a non-solid block below, and must be a corner or be 1-2 blocks tall (dark oak support/jungle sapling thick branches)
-        if (!world.getBlockState(mutable.move(0, -1, 0)).canOcclude()) {
+        if (!blocks.getBlockState(mutable.move(0, -1, 0)).canOcclude()) {
           upcomingPositions.add(branchPos);
         }
       }
@@ -229,8 +228,8 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
             mutable.set(treePos.pos);
             upcomingPositions.add(treePos.move());
             // acacia can continue outside the original trunk, so start marking it visited to prevent redundancy
-            if (outsideTrunk(treePos.pos)) {
-              branchVisited.add(treePos.pos);
+            if (outsideTrunk(mutable)) {
+              branchVisited.add(mutable.asLong());
             }
             return mutable;
           }
@@ -0,0 +1,203 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.PlayerTickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedOutEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHooks;
+import slimeknights.tconstruct.library.modifiers.hook.mining.HarvestEnchantmentsModifierHook;
+import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
+import slimeknights.tconstruct.library.tools.definition.module.aoe.AreaOfEffectIterator;
+import slimeknights.tconstruct.library.tools.definition.module.aoe.ChunkCachedBlockGetter;
+import slimeknights.tconstruct.library.tools.definition.module.mining.IsEffectiveToolHook;
+import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+
+/**
+ * Logic to break area of effect blocks over several ticks, limiting the number of blocks broken each tick.
+ * Harvests are canceled if the player dies, stops holding the tool, or the tool breaks.
+ * @see slimeknights.tconstruct.common.config.Config.Common#aoeBlocksPerTick
+ */
+public class DeferredHarvestHandler {
+  /** Pending harvests for each player, in the order they were started */
+  private static final Map<UUID,Deque<DeferredHarvest>> PENDING = new HashMap<>();
+  private static boolean init = false;
+
+  private DeferredHarvestHandler() {}
+
+  /** Initializes this listener */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    MinecraftForge.EVENT_BUS.addListener(DeferredHarvestHandler::onPlayerTick);
+    MinecraftForge.EVENT_BUS.addListener(DeferredHarvestHandler::onLeaveServer);
+    MinecraftForge.EVENT_BUS.addListener(DeferredHarvestHandler::serverStopping);
+  }
+
+  /**
+   * Schedules the remaining positions from the iterator to break in later ticks
+   * @param stack      Tool stack, harvest is canceled if the player stops holding this stack
+   * @param context    Harvest context for the origin block
+   * @param positions  Positions left to break, will be copied as immutable positions
+   */
+  public static void schedule(ItemStack stack, ToolHarvestContext context, Iterator<BlockPos> positions) {
+    ServerPlayer player = context.getPlayer();
+    if (player == null || !positions.hasNext()) {
+      return;
+    }
+    // iterators may depend on the chunk, so copy the positions now rather than holding the iterator across ticks
+    Queue<BlockPos> queue = new ArrayDeque<>();
+    while (positions.hasNext()) {
+      queue.add(positions.next().immutable());
+    }
+    // same hardness limit as the AOE iterator, the origin is already broken so use the state from the context
+    ServerLevel world = context.getWorld();
+    BlockState state = context.getState();
+    float refHardness = state.getDestroySpeed(world, context.getPos());
+    // the context is not kept as it holds the player, which is replaced if they respawn before the harvest finishes
+    PENDING.computeIfAbsent(player.getUUID(), uuid -> new ArrayDeque<>()).add(new DeferredHarvest(stack, world, context.getPos(), context.getSideHit(), state, refHardness, queue));
+  }
+
+  /** Checks if the given block can still be broken by the harvest */
+  private static boolean canBreak(ToolStack tool, ServerLevel world, BlockPos pos, BlockState state, float refHardness) {
+    // block may have changed since it was scheduled, so ensure its still breakable by this tool
+    if (state.isAir()) {
+      return false;
+    }
+    float hardness = state.getDestroySpeed(world, pos);
+    return hardness >= 0 && AreaOfEffectIterator.isHardnessInRange(refHardness, hardness) && IsEffectiveToolHook.isEffective(tool, state);
+  }
+
+  /**
+   * Breaks blocks from the given harvest
+   * @param player  Player harvesting
+   * @param harvest Harvest to run
+   * @param budget  Max number of blocks to break
+   * @return  Number of blocks attempted, or -1 if the harvest was canceled
+   */
+  private static int runHarvest(ServerPlayer player, DeferredHarvest harvest, int budget) {
+    ServerLevel world = harvest.world;
+    // cancel if the player died, switched items, or changed dimension
+    ItemStack stack = harvest.stack;
+    if (!player.isAlive() || player.getMainHandItem() != stack || player.level != world) {
+      return -1;
+    }
+    ToolStack tool = ToolStack.from(stack);
+    if (tool.isBroken()) {
+      return -1;
+    }
+    // rebuild the origin context from the current player entity
+    BlockState originState = harvest.state;
+    BlockPos origin = harvest.origin;
+    ToolHarvestContext context = new ToolHarvestContext(world, player, originState, origin, harvest.sideHit,
+                                                        !player.isCreative() && originState.canHarvestBlock(world, origin, player),
+                                                        IsEffectiveToolHook.isEffective(tool, originState));
+
+    // modifiers expect harvest to be bracketed by start and finish, run once per batch
+    boolean hasHarvestHook = tool.getModifiers().hasHook(ModifierHooks.BLOCK_HARVEST);
+    if (hasHarvestHook) {
+      for (ModifierEntry entry : tool.getModifierList()) {
+        entry.getHook(ModifierHooks.BLOCK_HARVEST).startHarvest(tool, entry, context);
+      }
+    }
+    ListTag originalEnchantments = HarvestEnchantmentsModifierHook.updateHarvestEnchantments(tool, stack, context);
+    ChunkCachedBlockGetter blocks = new ChunkCachedBlockGetter(world);
+    int attempted = 0;
+    while (attempted < budget && !harvest.positions.isEmpty()) {
+      // durability is spent per block, so stop once the tool breaks
+      if (tool.isBroken()) {
+        attempted = -1;
+        break;
+      }
+      BlockPos pos = harvest.positions.remove();
+      if (world.isLoaded(pos)) {
+        BlockState state = blocks.getBlockState(pos);
+        if (canBreak(tool, world, pos, state, harvest.refHardness)) {
+          ToolHarvestLogic.breakExtraBlock(tool, stack, context.forPosition(pos, state));
+        }
+      }
+      attempted++;
+    }
+    if (originalEnchantments != null) {
+      HarvestEnchantmentsModifierHook.restoreEnchantments(stack, originalEnchantments);
+    }
+    // origin block already reported the harvest, so later batches do not count as harvesting
+    if (hasHarvestHook) {
+      for (ModifierEntry entry : tool.getModifierList()) {
+        entry.getHook(ModifierHooks.BLOCK_HARVEST).finishHarvest(tool, entry, context, false);
+      }
+    }
+    return attempted;
+  }
+
+
+  /* Events */
+
+  /** Breaks pending blocks for the player */
+  private static void onPlayerTick(PlayerTickEvent event) {
+    if (event.phase != Phase.END || !(event.player instanceof ServerPlayer player)) {
+      return;
+    }
+    Deque<DeferredHarvest> harvests = PENDING.get(player.getUUID());
+    if (harvests == null) {
+      return;
+    }
+    int budget = Config.COMMON.aoeBlocksPerTick.get();
+    // config may have been disabled since scheduling, if so finish all blocks now
+    if (budget == 0) {
+      budget = Integer.MAX_VALUE;
+    }
+    while (budget > 0 && !harvests.isEmpty()) {
+      DeferredHarvest harvest = harvests.peek();
+      int attempted = runHarvest(player, harvest, budget);
+      if (attempted == -1 || harvest.positions.isEmpty()) {
+        harvests.remove();
+      }
+      budget -= Math.max(attempted, 0);
+    }
+    if (harvests.isEmpty()) {
+      PENDING.remove(player.getUUID());
+    }
+  }
+
+  /** Clears pending harvests when the player leaves */
+  private static void onLeaveServer(PlayerLoggedOutEvent event) {
+    PENDING.remove(event.getEntity().getUUID());
+  }
+
+  /** Clears all pending harvests */
+  private static void serverStopping(ServerStoppingEvent event) {
+    PENDING.clear();
+  }
+
+  /**
+   * Data class for a harvest in progress, the player is the key in {@link #PENDING}
+   * @param stack        Tool stack harvesting
+   * @param world        World containing the harvest
+   * @param origin       Position of the originally harvested block
+   * @param sideHit      Side of the origin block that was hit
+   * @param state        State of the origin block before it was broken
+   * @param refHardness  Hardness of the origin block, limits the hardness of blocks broken
+   * @param positions    Positions left to break
+   */
+  private record DeferredHarvest(ItemStack stack, ServerLevel world, BlockPos origin, Direction sideHit, BlockState state, float refHardness, Queue<BlockPos> positions) {}
+}
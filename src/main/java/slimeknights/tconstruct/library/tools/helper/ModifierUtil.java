@@ -71,6 +71,10 @@ public final class ModifierUtil {
   public static int getModifierLevel(ItemStack stack, ModifierId modifier) {
     if (!stack.isEmpty() && stack.is(TinkerTags.Items.MODIFIABLE)) {
       CompoundTag nbt = stack.getTag();
+      // compact NBT requires parsing, so just use the tool stack cache
+      if (nbt != null && nbt.contains(ToolStack.TAG_MODIFIERS, Tag.TAG_BYTE_ARRAY)) {
+        return ToolStack.from(stack).getModifierLevel(modifier);
+      }
       if (nbt != null && nbt.contains(ToolStack.TAG_MODIFIERS, Tag.TAG_LIST)) {
         ListTag list = nbt.getList(ToolStack.TAG_MODIFIERS, Tag.TAG_COMPOUND);
         int size = list.size();
@@ -92,6 +96,9 @@ public final class ModifierUtil {
   public static boolean hasUpgrades(ItemStack stack) {
     if (!stack.isEmpty() && stack.is(TinkerTags.Items.MODIFIABLE)) {
       CompoundTag nbt = stack.getTag();
+      if (nbt != null && nbt.contains(ToolStack.TAG_UPGRADES, Tag.TAG_BYTE_ARRAY)) {
+        return !ToolStack.from(stack).getUpgrades().isEmpty();
+      }
       return nbt != null && !nbt.getList(ToolStack.TAG_UPGRADES, Tag.TAG_COMPOUND).isEmpty();
     }
     return false;
@@ -38,13 +38,13 @@ import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
 import slimeknights.tconstruct.library.tools.definition.module.weapon.MeleeHitToolHook;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
+import slimeknights.tconstruct.library.tools.nbt.ModifierNBT;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.Util;
 
 import javax.annotation.Nullable;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.DoubleSupplier;
@@ -98,8 +98,10 @@ public class ToolAttackUtil {
         listBuilder.add(modifier);
       }
     };
-    for (ModifierEntry entry : tool.getModifierList()) {
-      entry.getHook(ModifierHooks.ATTRIBUTES).addAttributes(tool, entry, EquipmentSlot.MAINHAND, attributeConsumer);
+    if (tool.getModifiers().hasHook(ModifierHooks.ATTRIBUTES)) {
+      for (ModifierEntry entry : tool.getModifierList()) {
+        entry.getHook(ModifierHooks.ATTRIBUTES).addAttributes(tool, entry, EquipmentSlot.MAINHAND, attributeConsumer);
+      }
     }
     Multimap<Attribute,AttributeModifier> offhandModifiers = new SingleKeyMultimap<>(Attributes.ATTACK_DAMAGE, listBuilder.build());
 
@@ -201,8 +203,10 @@ public class ToolAttackUtil {
     // calculate actual damage
     // boost damage from traits
     float baseDamage = damage;
-    List<ModifierEntry> modifiers = tool.getModifierList();
-    for (ModifierEntry entry : modifiers) {
+    // only loop over modifiers implementing each hook, lists are cached on the modifiers so extra attacks reuse them
+    ModifierNBT toolModifiers = tool.getModifiers();
+    List<ModifierEntry> meleeHitModifiers = toolModifiers.getHookEntries(ModifierHooks.MELEE_HIT);
+    for (ModifierEntry entry : toolModifiers.getHookEntries(ModifierHooks.MELEE_DAMAGE)) {
       damage = entry.getHook(ModifierHooks.MELEE_DAMAGE).getMeleeDamage(tool, entry, context, baseDamage, damage);
     }
 
@@ -267,7 +271,7 @@ public class ToolAttackUtil {
 
     // apply modifier knockback and special effects
     float baseKnockback = knockback;
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : meleeHitModifiers) {
       knockback = entry.getHook(ModifierHooks.MELEE_HIT).beforeMeleeHit(tool, entry, context, damage, baseKnockback, knockback);
     }
 
@@ -275,12 +279,12 @@ public class ToolAttackUtil {
     ModifierLootingHandler.setLootingSlot(attackerLiving, sourceSlot);
 
     // prevent knockback if needed
-    Optional<AttributeInstance> knockbackModifier = getKnockbackAttribute(targetLiving);
+    AttributeInstance knockbackModifier = getKnockbackAttribute(targetLiving);
     // if knockback is below the vanilla amount, we need to prevent knockback, the remainder will be applied later
     boolean canceledKnockback = false;
     if (knockback < 0.4f) {
       canceledKnockback = true;
-      knockbackModifier.ifPresent(ToolAttackUtil::disableKnockback);
+      disableKnockback(knockbackModifier);
     } else if (targetLiving != null) {
       // we will apply 0.4 of the knockback in the attack hook, need to apply the remainder ourself
       knockback -= 0.4f;
@@ -303,7 +307,7 @@ public class ToolAttackUtil {
 
     // reset knockback if needed
     if (canceledKnockback) {
-      knockbackModifier.ifPresent(ToolAttackUtil::enableKnockback);
+      enableKnockback(knockbackModifier);
     }
 
     // if we failed to hit, fire failure hooks
@@ -312,7 +316,7 @@ public class ToolAttackUtil {
         attackerLiving.level.playSound(null, attackerLiving.getX(), attackerLiving.getY(), attackerLiving.getZ(), SoundEvents.PLAYER_ATTACK_NODAMAGE, attackerLiving.getSoundSource(), 1.0F, 1.0F);
       }
       // alert modifiers nothing was hit, mainly used for fiery
-      for (ModifierEntry entry : modifiers) {
+      for (ModifierEntry entry : meleeHitModifiers) {
         entry.getHook(ModifierHooks.MELEE_HIT).failedMeleeHit(tool, entry, context, damage);
       }
 
@@ -371,7 +375,7 @@ public class ToolAttackUtil {
 
     // apply modifier effects
     // removed: bane of arthropods hook, replaced by this
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : meleeHitModifiers) {
       entry.getHook(ModifierHooks.MELEE_HIT).afterMeleeHit(tool, entry, context, damageDealt);
     }
 
@@ -443,20 +447,29 @@ public class ToolAttackUtil {
   }
 
   /** Gets the knockback attribute instance if the modifier is not already present */
-  private static Optional<AttributeInstance> getKnockbackAttribute(@Nullable LivingEntity living) {
-    return Optional.ofNullable(living)
-                   .map(e -> e.getAttribute(Attributes.KNOCKBACK_RESISTANCE))
-                   .filter(attribute -> !attribute.hasModifier(ANTI_KNOCKBACK_MODIFIER));
+  @Nullable
+  private static AttributeInstance getKnockbackAttribute(@Nullable LivingEntity living) {
+    if (living != null) {
+      AttributeInstance attribute = living.getAttribute(Attributes.KNOCKBACK_RESISTANCE);
+      if (attribute != null && !attribute.hasModifier(ANTI_KNOCKBACK_MODIFIER)) {
+        return attribute;
+      }
+    }
+    return null;
   }
 
   /** Enable the anti-knockback modifier */
-  private static void disableKnockback(AttributeInstance instance) {
-    instance.addTransientModifier(ANTI_KNOCKBACK_MODIFIER);
+  private static void disableKnockback(@Nullable AttributeInstance instance) {
+    if (instance != null) {
+      instance.addTransientModifier(ANTI_KNOCKBACK_MODIFIER);
+    }
   }
 
   /** Disables the anti knockback modifier */
-  private static void enableKnockback(AttributeInstance instance) {
-    instance.removeModifier(ANTI_KNOCKBACK_MODIFIER);
+  private static void enableKnockback(@Nullable AttributeInstance instance) {
+    if (instance != null) {
+      instance.removeModifier(ANTI_KNOCKBACK_MODIFIER);
+    }
   }
 
   /**
@@ -470,13 +483,13 @@ public class ToolAttackUtil {
    */
   @SuppressWarnings("UnusedReturnValue")
   public static boolean attackEntitySecondary(DamageSource source, float damage, Entity target, @Nullable LivingEntity living, boolean noKnockback) {
-    Optional<AttributeInstance> knockbackResistance = getKnockbackAttribute(living);
+    AttributeInstance knockbackResistance = getKnockbackAttribute(living);
     // store last damage before secondary attack
     float oldLastDamage = living == null ? 0 : living.lastHurt;
 
     // prevent knockback in secondary attacks, if requested
     if (noKnockback) {
-      knockbackResistance.ifPresent(ToolAttackUtil::disableKnockback);
+      disableKnockback(knockbackResistance);
     }
 
     // set hurt resistance time to 0 because we always want to deal damage in traits
@@ -491,7 +504,7 @@ public class ToolAttackUtil {
 
     // remove no knockback marker
     if (noKnockback) {
-      knockbackResistance.ifPresent(ToolAttackUtil::enableKnockback);
+      enableKnockback(knockbackResistance);
     }
 
     return hit;
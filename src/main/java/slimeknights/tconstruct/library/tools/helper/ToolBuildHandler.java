@@ -2,8 +2,12 @@ package slimeknights.tconstruct.library.tools.helper;
 
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.eventbus.api.EventPriority;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.events.MaterialsLoadedEvent;
 import slimeknights.tconstruct.library.materials.MaterialRegistry;
 import slimeknights.tconstruct.library.materials.definition.IMaterial;
 import slimeknights.tconstruct.library.materials.definition.MaterialId;
@@ -19,6 +23,8 @@ import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Logic to help in creating new tools
@@ -36,6 +42,23 @@ public final class ToolBuildHandler {
     MaterialVariantId.create(RENDER_MATERIAL, "large"),
     MaterialVariantId.create(RENDER_MATERIAL, "extra_large"));
 
+  /** Key for a display tool, material is {@link IMaterial#UNKNOWN_ID} for tools without materials */
+  private record DisplayKey(Item item, MaterialVariantId material) {}
+  /** Display tools for creative tabs, JEI, and the books, as building each tool requires rebuilding stats. Empty if the tool cannot use the material */
+  private static final Map<DisplayKey,ItemStack> DISPLAY_TOOLS = new ConcurrentHashMap<>();
+  private static boolean init = false;
+
+  /** Initializes the display tool cache invalidators */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    // tool definitions and modifiers reload with recipes, materials reload separately
+    RecipeCacheInvalidator.addReloadListener(client -> DISPLAY_TOOLS.clear());
+    MinecraftForge.EVENT_BUS.addListener(EventPriority.NORMAL, false, MaterialsLoadedEvent.class, event -> DISPLAY_TOOLS.clear());
+  }
+
   /**
    * Builds a tool stack from a material list and a given tool definition
    * @param tool       Tool instance
@@ -89,7 +112,7 @@ public final class ToolBuildHandler {
       itemList.add(new ItemStack(item));
     } else if (!hasMaterials) {
       // no parts? just add this item
-      itemList.add(buildItemFromMaterials(item, MaterialNBT.EMPTY));
+      itemList.add(getDisplayTool(item).copy());
     } else {
       // if a specific material is set, show just that
       String showOnlyId = Config.COMMON.showOnlyToolMaterial.get();
@@ -117,24 +140,49 @@ public final class ToolBuildHandler {
 
   /** Makes a single sub item for the given materials */
   public static boolean addSubItem(IModifiable item, List<ItemStack> items, MaterialVariant material) {
-    List<MaterialStatsId> required = ToolMaterialHook.stats(item.getToolDefinition());
-    MaterialNBT.Builder materials = MaterialNBT.builder();
-    boolean useMaterial = false;
-    for (MaterialStatsId requirement : required) {
-      // try to use requested material
-      if (requirement.canUseMaterial(material.getId())) {
-        materials.add(material);
-        useMaterial = true;
-      } else {
-        // fallback to first that works
-        materials.add(MaterialRegistry.firstWithStatType(requirement));
-      }
-    }
-    // only report success if we actually used the material somewhere
-    if (useMaterial) {
-      items.add(buildItemFromMaterials(item, materials.build()));
+    ItemStack display = getDisplayTool(item, material);
+    if (!display.isEmpty()) {
+      items.add(display.copy());
       return true;
     }
     return false;
   }
+
+  /**
+   * Gets the display tool for the given material, building it if not cached. Other parts use the first material with the required stat type.
+   * @param item      Tool item
+   * @param material  Material to display
+   * @return  Display tool, empty if the tool cannot use the material. Should be copied before modifying
+   */
+  public static ItemStack getDisplayTool(IModifiable item, MaterialVariant material) {
+    return DISPLAY_TOOLS.computeIfAbsent(new DisplayKey(item.asItem(), material.getVariant()), key -> {
+      List<MaterialStatsId> required = ToolMaterialHook.stats(item.getToolDefinition());
+      MaterialNBT.Builder materials = MaterialNBT.builder();
+      boolean useMaterial = false;
+      for (MaterialStatsId requirement : required) {
+        // try to use requested material
+        if (requirement.canUseMaterial(material.getId())) {
+          materials.add(material);
+          useMaterial = true;
+        } else {
+          // fallback to first that works
+          materials.add(MaterialRegistry.firstWithStatType(requirement));
+        }
+      }
+      // only report success if we actually used the material somewhere
+      if (useMaterial) {
+        return buildItemFromMaterials(item, materials.build());
+      }
+      return ItemStack.EMPTY;
+    });
+  }
+
+  /**
+   * Gets the display tool for a tool without materials, building it if not cached
+   * @param item  Tool item
+   * @return  Display tool, should be copied before modifying
+   */
+  public static ItemStack getDisplayTool(IModifiable item) {
+    return DISPLAY_TOOLS.computeIfAbsent(new DisplayKey(item.asItem(), IMaterial.UNKNOWN_ID), key -> buildItemFromMaterials(item, MaterialNBT.EMPTY));
+  }
 }
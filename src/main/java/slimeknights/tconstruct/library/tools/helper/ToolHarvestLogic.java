@@ -19,6 +19,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.ToolActions;
 import slimeknights.tconstruct.common.TinkerTags;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
@@ -26,12 +27,14 @@ import slimeknights.tconstruct.library.modifiers.hook.mining.HarvestEnchantments
 import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
 import slimeknights.tconstruct.library.tools.definition.module.ToolHooks;
 import slimeknights.tconstruct.library.tools.definition.module.aoe.AreaOfEffectIterator;
+import slimeknights.tconstruct.library.tools.definition.module.aoe.ChunkCachedBlockGetter;
 import slimeknights.tconstruct.library.tools.definition.module.mining.IsEffectiveToolHook;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.utils.BlockSideHitListener;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Objects;
 
 /**
@@ -64,7 +67,7 @@ public class ToolHarvestLogic {
    */
   private static boolean removeBlock(IToolStackView tool, ToolHarvestContext context) {
     Boolean removed = null;
-    if (!tool.isBroken()) {
+    if (!tool.isBroken() && tool.getModifiers().hasHook(ModifierHooks.REMOVE_BLOCK)) {
       for (ModifierEntry entry : tool.getModifierList()) {
         removed = entry.getHook(ModifierHooks.REMOVE_BLOCK).removeBlock(tool, entry, context);
         if (removed != null) {
@@ -137,8 +140,10 @@ public class ToolHarvestLogic {
     // handle modifiers if not broken
     // broken means we are using "empty hand"
     if (!tool.isBroken() && removed) {
-      for (ModifierEntry entry : tool.getModifierList()) {
-        entry.getHook(ModifierHooks.BLOCK_BREAK).afterBlockBreak(tool, entry, context);
+      if (tool.getModifiers().hasHook(ModifierHooks.BLOCK_BREAK)) {
+        for (ModifierEntry entry : tool.getModifierList()) {
+          entry.getHook(ModifierHooks.BLOCK_BREAK).afterBlockBreak(tool, entry, context);
+        }
       }
       ToolDamageUtil.damageAnimated(tool, damage, player);
     }
@@ -220,8 +225,10 @@ public class ToolHarvestLogic {
                                                           !player.isCreative() && state.canHarvestBlock(world, pos, player),
                                                           IsEffectiveToolHook.isEffective(tool, state));
       // tell modifiers we are about to harvest, lets them add for instance modifiers conditioned on harvesting
-      for (ModifierEntry entry : tool.getModifierList()) {
-        entry.getHook(ModifierHooks.BLOCK_HARVEST).startHarvest(tool, entry, context);
+      if (tool.getModifiers().hasHook(ModifierHooks.BLOCK_HARVEST)) {
+        for (ModifierEntry entry : tool.getModifierList()) {
+          entry.getHook(ModifierHooks.BLOCK_HARVEST).startHarvest(tool, entry, context);
+        }
       }
       // let armor change enchantments
       // TODO: should we have a hook for non-enchantment armor responses?
@@ -232,13 +239,25 @@ public class ToolHarvestLogic {
       // actually break the block, run AOE if successful
       boolean didHarvest = breakBlock(tool, stack, context);
       if (didHarvest) {
-        for (BlockPos extraPos : extraBlocks) {
-          BlockState extraState = world.getBlockState(extraPos);
+        // state is fetched again rather than reusing the state from the iterator, as breaking earlier blocks may have changed it
+        ChunkCachedBlockGetter blocks = new ChunkCachedBlockGetter(world);
+        // large AOE can be limited per tick, any blocks past the limit are broken in later ticks
+        int budget = Config.COMMON.aoeBlocksPerTick.get();
+        int broken = 0;
+        Iterator<BlockPos> iterator = extraBlocks.iterator();
+        while (iterator.hasNext()) {
+          if (budget > 0 && broken >= budget && context.getPlayer() != null) {
+            DeferredHarvestHandler.schedule(stack, context, iterator);
+            break;
+          }
+          BlockPos extraPos = iterator.next();
+          BlockState extraState = blocks.getBlockState(extraPos);
           // prevent calling that stuff for air blocks, could lead to unexpected behaviour since it fires events
           // this should never actually happen, but just in case some AOE is odd
           if (!extraState.isAir()) {
             // prevent mutable position leak, breakBlock has a few places wanting immutable
             breakExtraBlock(tool, stack, context.forPosition(extraPos.immutable(), extraState));
+            broken++;
           }
         }
       }
@@ -247,8 +266,10 @@ public class ToolHarvestLogic {
         HarvestEnchantmentsModifierHook.restoreEnchantments(stack, originalEnchantments);
       }
       // alert modifiers we finished harvesting
-      for (ModifierEntry entry : tool.getModifierList()) {
-        entry.getHook(ModifierHooks.BLOCK_HARVEST).finishHarvest(tool, entry, context, didHarvest);
+      if (tool.getModifiers().hasHook(ModifierHooks.BLOCK_HARVEST)) {
+        for (ModifierEntry entry : tool.getModifierList()) {
+          entry.getHook(ModifierHooks.BLOCK_HARVEST).finishHarvest(tool, entry, context, didHarvest);
+        }
       }
     }
 
@@ -266,8 +287,10 @@ public class ToolHarvestLogic {
       // must not be broken, and the tool definition must be effective
       boolean isEffective = IsEffectiveToolHook.isEffective(tool, state);
       ToolHarvestContext context = new ToolHarvestContext((ServerLevel) worldIn, entityLiving, state, pos, Direction.UP, true, isEffective);
-      for (ModifierEntry entry : tool.getModifierList()) {
-        entry.getHook(ModifierHooks.BLOCK_BREAK).afterBlockBreak(tool, entry, context);
+      if (tool.getModifiers().hasHook(ModifierHooks.BLOCK_BREAK)) {
+        for (ModifierEntry entry : tool.getModifierList()) {
+          entry.getHook(ModifierHooks.BLOCK_BREAK).afterBlockBreak(tool, entry, context);
+        }
       }
       ToolDamageUtil.damageAnimated(tool, ToolHarvestLogic.getDamage(tool, worldIn, pos, state), entityLiving);
     }
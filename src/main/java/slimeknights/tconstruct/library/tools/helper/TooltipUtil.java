@@ -26,6 +26,7 @@ import slimeknights.mantle.client.TooltipKey;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.library.client.ToolTooltipCache;
 import slimeknights.tconstruct.library.client.materials.MaterialTooltipCache;
 import slimeknights.tconstruct.library.materials.IMaterialRegistry;
 import slimeknights.tconstruct.library.materials.MaterialRegistry;
@@ -261,8 +262,7 @@ public class TooltipUtil {
     // if the display tag is set, just show modifiers
     ToolDefinition definition = item.getToolDefinition();
     if (isDisplay(stack)) {
-      ToolStack tool = ToolStack.from(stack);
-      addModifierNames(stack, tool, tooltip, tooltipFlag);
+      tooltip.addAll(ToolTooltipCache.get(stack, null, tooltipKey, tooltipFlag, list -> addModifierNames(stack, ToolStack.from(stack), list, tooltipFlag)));
       // No definition?
     } else if (!definition.isDataLoaded()) {
       tooltip.add(NO_DATA);
@@ -277,21 +277,28 @@ public class TooltipUtil {
         }
       }
     } else {
-      switch (tooltipKey) {
-        case SHIFT:
-          item.getStatInformation(ToolStack.from(stack), player, tooltip, tooltipKey, tooltipFlag);
-          break;
-        case CONTROL:
-          if (definition.hasMaterials()) {
-            getComponents(item, stack, tooltip, tooltipFlag);
-            break;
-          }
-          // intentional fallthrough
-        default:
-          ToolStack tool = ToolStack.from(stack);
-          getDefaultInfo(stack, tool, tooltip, tooltipFlag);
+      // stats may depend on the player, so only reuse those within the tick
+      tooltip.addAll(ToolTooltipCache.get(stack, tooltipKey == TooltipKey.SHIFT ? player : null, tooltipKey, tooltipFlag,
+                                          list -> addToolInformation(item, stack, player, list, tooltipKey, tooltipFlag)));
+    }
+  }
+
+  /** Adds tooltip information for an initialized tool */
+  private static void addToolInformation(IModifiableDisplay item, ItemStack stack, @Nullable Player player, List<Component> tooltip, TooltipKey tooltipKey, TooltipFlag tooltipFlag) {
+    switch (tooltipKey) {
+      case SHIFT:
+        item.getStatInformation(ToolStack.from(stack), player, tooltip, tooltipKey, tooltipFlag);
+        break;
+      case CONTROL:
+        if (item.getToolDefinition().hasMaterials()) {
+          getComponents(item, stack, tooltip, tooltipFlag);
           break;
-      }
+        }
+        // intentional fallthrough
+      default:
+        ToolStack tool = ToolStack.from(stack);
+        getDefaultInfo(stack, tool, tooltip, tooltipFlag);
+        break;
     }
   }
 
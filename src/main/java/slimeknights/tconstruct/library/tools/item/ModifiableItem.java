@@ -310,7 +310,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
     if (stack.getCount() == 1) {
       ToolStack tool = ToolStack.from(stack);
       InteractionHand hand = context.getHand();
-      if (shouldInteract(context.getPlayer(), tool, hand)) {
+      if (shouldInteract(context.getPlayer(), tool, hand) && tool.getModifiers().hasHook(ModifierHooks.BLOCK_INTERACT)) {
         for (ModifierEntry entry : tool.getModifierList()) {
           InteractionResult result = entry.getHook(ModifierHooks.BLOCK_INTERACT).beforeBlockUse(tool, entry, context, InteractionSource.RIGHT_CLICK);
           if (result.consumesAction()) {
@@ -328,7 +328,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
     if (stack.getCount() == 1) {
       ToolStack tool = ToolStack.from(stack);
       InteractionHand hand = context.getHand();
-      if (shouldInteract(context.getPlayer(), tool, hand)) {
+      if (shouldInteract(context.getPlayer(), tool, hand) && tool.getModifiers().hasHook(ModifierHooks.BLOCK_INTERACT)) {
         for (ModifierEntry entry : tool.getModifierList()) {
           InteractionResult result = entry.getHook(ModifierHooks.BLOCK_INTERACT).afterBlockUse(tool, entry, context, InteractionSource.RIGHT_CLICK);
           if (result.consumesAction()) {
@@ -343,7 +343,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
   @Override
   public InteractionResult interactLivingEntity(ItemStack stack, Player playerIn, LivingEntity target, InteractionHand hand) {
     ToolStack tool = ToolStack.from(stack);
-    if (shouldInteract(playerIn, tool, hand)) {
+    if (shouldInteract(playerIn, tool, hand) && tool.getModifiers().hasHook(ModifierHooks.ENTITY_INTERACT)) {
       for (ModifierEntry entry : tool.getModifierList()) {
         InteractionResult result = entry.getHook(ModifierHooks.ENTITY_INTERACT).afterEntityUse(tool, entry, playerIn, target, hand, InteractionSource.RIGHT_CLICK);
         if (result.consumesAction()) {
@@ -361,7 +361,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
       return InteractionResultHolder.pass(stack);
     }
     ToolStack tool = ToolStack.from(stack);
-    if (shouldInteract(playerIn, tool, hand)) {
+    if (shouldInteract(playerIn, tool, hand) && tool.getModifiers().hasHook(ModifierHooks.GENERAL_INTERACT)) {
       for (ModifierEntry entry : tool.getModifierList()) {
         InteractionResult result = entry.getHook(ModifierHooks.GENERAL_INTERACT).onToolUse(tool, entry, playerIn, hand, InteractionSource.RIGHT_CLICK);
         if (result.consumesAction()) {
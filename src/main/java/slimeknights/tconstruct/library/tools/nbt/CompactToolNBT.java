@@ -0,0 +1,68 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import io.netty.buffer.Unpooled;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.nbt.ByteArrayTag;
+import net.minecraft.network.FriendlyByteBuf;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.common.config.Config;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Helpers for the compact tool NBT format, which stores tool data as a single byte array tag instead of lists and compounds.
+ * Reading always supports both formats, so the format is only chosen on write based on {@link Config.Common#compactToolNBT}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompactToolNBT {
+  /** Checks if tools should be written in the compact format. False if the config is not yet loaded */
+  public static boolean isEnabled() {
+    return Config.commonSpec.isLoaded() && Config.COMMON.compactToolNBT.get();
+  }
+
+  /**
+   * Writes data to a byte array tag
+   * @param writer  Logic to write the data
+   * @return  Byte array tag
+   */
+  public static ByteArrayTag write(Consumer<FriendlyByteBuf> writer) {
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    try {
+      writer.accept(buffer);
+      byte[] bytes = new byte[buffer.readableBytes()];
+      buffer.readBytes(bytes);
+      return new ByteArrayTag(bytes);
+    } finally {
+      buffer.release();
+    }
+  }
+
+  /**
+   * Reads data from a byte array
+   * @param bytes     Bytes to read
+   * @param reader    Logic to read the data
+   * @param fallback  Value to return if the data is malformed
+   * @return  Read value, or fallback if malformed
+   */
+  public static <T> T read(byte[] bytes, Function<FriendlyByteBuf,T> reader, T fallback) {
+    try {
+      return reader.apply(new FriendlyByteBuf(Unpooled.wrappedBuffer(bytes)));
+    } catch (RuntimeException e) {
+      TConstruct.LOG.error("Failed to read compact tool NBT", e);
+      return fallback;
+    }
+  }
+
+  /**
+   * Reads data from a byte array tag
+   * @param tag       Tag to read
+   * @param reader    Logic to read the data
+   * @param fallback  Value to return if the data is malformed
+   * @return  Read value, or fallback if malformed
+   */
+  public static <T> T read(ByteArrayTag tag, Function<FriendlyByteBuf,T> reader, T fallback) {
+    return read(tag.getAsByteArray(), reader, fallback);
+  }
+}
@@ -4,17 +4,22 @@ import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import slimeknights.tconstruct.library.modifiers.IncrementalModifierEntry;
 import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierId;
 import slimeknights.tconstruct.library.modifiers.ModifierManager;
+import slimeknights.tconstruct.library.module.ModuleHook;
 
 import javax.annotation.Nullable;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +38,15 @@ public class ModifierNBT {
   /** Sorted list of modifiers */
   @Getter
   private final List<ModifierEntry> modifiers;
+  /**
+   * Hooks implemented by any modifier in this list, indexed by {@link ModuleHook#getIndex()}. Computed on first use as modifiers may not be resolved on creation.
+   * Volatile as instances are shared between threads through the parsed tool cache, the set is never modified once published.
+   */
+  @EqualsAndHashCode.Exclude
+  private volatile BitSet hooks;
+  /** Modifiers implementing each requested hook, in modifier order. Replaced rather than modified when a hook is added so readers never see a partial map */
+  @EqualsAndHashCode.Exclude
+  private volatile Map<ModuleHook<?>,List<ModifierEntry>> hookEntries = Map.of();
 
   /**
    * Checks if the NBT has no modifiers
@@ -42,6 +56,63 @@ public class ModifierNBT {
     return modifiers.isEmpty();
   }
 
+  /**
+   * Checks if any modifier in this list implements the given hook. Used to skip looping over modifiers for hooks none of them implement.
+   * @param hook  Hook to check
+   * @return  True if any modifier implements the hook
+   */
+  public boolean hasHook(ModuleHook<?> hook) {
+    return getHooks().get(hook.getIndex());
+  }
+
+  /**
+   * Adds the indices of all hooks implemented by any modifier in this list to the given set
+   * @param indices  Set to fill, indexed by {@link ModuleHook#getIndex()}
+   */
+  public void addHookIndices(BitSet indices) {
+    indices.or(getHooks());
+  }
+
+  /** Gets the hooks implemented by any modifier in this list, computing them if needed */
+  private BitSet getHooks() {
+    BitSet hooks = this.hooks;
+    if (hooks == null) {
+      hooks = new BitSet();
+      for (ModifierEntry entry : modifiers) {
+        entry.getModifier().addHookIndices(hooks);
+      }
+      this.hooks = hooks;
+    }
+    return hooks;
+  }
+
+  /**
+   * Gets all modifiers implementing the given hook, for hooks run several times per tick such as the melee hooks.
+   * @param hook  Hook to check
+   * @return  Modifiers implementing the hook in modifier order, do not modify
+   */
+  public List<ModifierEntry> getHookEntries(ModuleHook<?> hook) {
+    Map<ModuleHook<?>,List<ModifierEntry>> hookEntries = this.hookEntries;
+    List<ModifierEntry> entries = hookEntries.get(hook);
+    if (entries == null) {
+      if (hasHook(hook)) {
+        ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
+        for (ModifierEntry entry : modifiers) {
+          if (entry.getModifier().hasHook(hook)) {
+            builder.add(entry);
+          }
+        }
+        entries = builder.build();
+      } else {
+        entries = List.of();
+      }
+      Map<ModuleHook<?>,List<ModifierEntry>> updated = new IdentityHashMap<>(hookEntries);
+      updated.put(hook, entries);
+      this.hookEntries = updated;
+    }
+    return entries;
+  }
+
   /**
    * Gets the modifier entry for a modifier
    * @param modifier  Modifier to check
@@ -170,6 +241,9 @@ public class ModifierNBT {
 
   /** Re-adds the modifier list from NBT */
   public static ModifierNBT readFromNBT(@Nullable Tag inbt) {
+    if (inbt instanceof ByteArrayTag bytes) {
+      return CompactToolNBT.read(bytes, ModifierNBT::readCompact, EMPTY);
+    }
     if (inbt == null || inbt.getId() != Tag.TAG_LIST) {
       return EMPTY;
     }
@@ -198,6 +272,39 @@ public class ModifierNBT {
     return list;
   }
 
+  /** Reads modifiers written by {@link #serializeCompact()} */
+  private static ModifierNBT readCompact(FriendlyByteBuf buffer) {
+    int size = buffer.readVarInt();
+    ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      ModifierId id = ModifierId.tryParse(buffer.readUtf());
+      int level = buffer.readVarInt();
+      int needed = buffer.readVarInt();
+      int amount = needed > 0 ? buffer.readVarInt() : 0;
+      if (id != null && level > 0) {
+        builder.add(IncrementalModifierEntry.of(id, level, amount, needed));
+      }
+    }
+    return new ModifierNBT(builder.build());
+  }
+
+  /** Writes these modifiers in the compact format, see {@link CompactToolNBT} */
+  public ByteArrayTag serializeCompact() {
+    return CompactToolNBT.write(buffer -> {
+      buffer.writeVarInt(modifiers.size());
+      for (ModifierEntry entry : modifiers) {
+        buffer.writeUtf(entry.getId().toString());
+        buffer.writeVarInt(entry.getLevel());
+        // amount is only relevant for incremental modifiers
+        int needed = entry.getNeeded();
+        buffer.writeVarInt(needed);
+        if (needed > 0) {
+          buffer.writeVarInt(entry.getAmount(0));
+        }
+      }
+    });
+  }
+
 
   /* Builder */
 
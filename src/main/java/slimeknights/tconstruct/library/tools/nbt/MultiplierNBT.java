@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -70,6 +71,9 @@ public class MultiplierNBT {
 
   /** Reads the multipliers from NBT */
   public static MultiplierNBT readFromNBT(@Nullable Tag inbt) {
+    if (inbt instanceof ByteArrayTag bytes) {
+      return CompactToolNBT.read(bytes, MultiplierNBT::readCompact, EMPTY);
+    }
     if (inbt == null || inbt.getId() != Tag.TAG_COMPOUND) {
       return EMPTY;
     }
@@ -93,6 +97,31 @@ public class MultiplierNBT {
     return nbt;
   }
 
+  /** Reads multipliers written by {@link #serializeCompact()} */
+  private static MultiplierNBT readCompact(FriendlyByteBuf buffer) {
+    Builder builder = builder();
+    int max = buffer.readVarInt();
+    for (int i = 0; i < max; i++) {
+      String key = buffer.readUtf();
+      float value = buffer.readFloat();
+      if (StatsNBT.readStatIdFromNBT(key) instanceof INumericToolStat<?> stat) {
+        builder.set(stat, value);
+      }
+    }
+    return builder.build();
+  }
+
+  /** Writes these multipliers in the compact format, see {@link CompactToolNBT} */
+  public ByteArrayTag serializeCompact() {
+    return CompactToolNBT.write(buffer -> {
+      buffer.writeVarInt(stats.size());
+      for (Entry<INumericToolStat<?>,Float> entry : stats.entrySet()) {
+        buffer.writeUtf(entry.getKey().getName().toString());
+        buffer.writeFloat(entry.getValue());
+      }
+    });
+  }
+
 
   /* Network */
 
@@ -0,0 +1,65 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.nbt.Tag;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+
+import javax.annotation.Nullable;
+import java.util.function.Function;
+
+/**
+ * Cache of parsed tool data, keyed by the identity of the tag it was parsed from.
+ * As {@link ToolStack} always replaces a tag instead of modifying it, a tag identity will always parse to the same value.
+ * Keys are weak so cached values disappear once the stack holding the tag is gone.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ParsedToolCache {
+  /** Maximum number of entries in each cache */
+  private static final int MAX_SIZE = 4096;
+
+  /** Cache of parsed materials */
+  static final Cache<Tag,MaterialNBT> MATERIALS = create();
+  /** Cache of parsed upgrades and modifiers */
+  static final Cache<Tag,ModifierNBT> MODIFIERS = create();
+  /** Cache of parsed stats */
+  static final Cache<Tag,StatsNBT> STATS = create();
+  /** Cache of parsed multipliers */
+  static final Cache<Tag,MultiplierNBT> MULTIPLIERS = create();
+
+  static {
+    // parsed materials and modifiers hold lazy references to datapack values, so clear on reload
+    RecipeCacheInvalidator.addReloadListener(client -> {
+      MATERIALS.invalidateAll();
+      MODIFIERS.invalidateAll();
+      STATS.invalidateAll();
+      MULTIPLIERS.invalidateAll();
+    });
+  }
+
+  /** Creates a new cache instance. Weak keys mean the cache compares keys by identity */
+  private static <V> Cache<Tag,V> create() {
+    return CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_SIZE).build();
+  }
+
+  /**
+   * Gets the parsed value for the given tag, parsing if not cached
+   * @param cache   Cache to use
+   * @param tag     Tag to parse, if null the parser is called directly
+   * @param parser  Logic to parse the tag
+   * @return  Parsed value
+   */
+  static <V> V get(Cache<Tag,V> cache, @Nullable Tag tag, Function<Tag,V> parser) {
+    if (tag == null) {
+      return parser.apply(null);
+    }
+    V value = cache.getIfPresent(tag);
+    if (value == null) {
+      value = parser.apply(tag);
+      cache.put(tag, value);
+    }
+    return value;
+  }
+}
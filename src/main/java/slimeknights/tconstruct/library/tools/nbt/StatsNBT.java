@@ -3,11 +3,13 @@ package slimeknights.tconstruct.library.tools.nbt;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import io.netty.buffer.Unpooled;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -104,6 +106,9 @@ public class StatsNBT {
 
   /** Reads the stat from NBT */
   public static StatsNBT readFromNBT(@Nullable Tag inbt) {
+    if (inbt instanceof ByteArrayTag bytes) {
+      return CompactToolNBT.read(bytes, StatsNBT::readCompact, EMPTY);
+    }
     if (inbt == null || inbt.getId() != Tag.TAG_COMPOUND) {
       return EMPTY;
     }
@@ -147,6 +152,55 @@ public class StatsNBT {
     return nbt;
   }
 
+  /** Reads stats written by {@link #serializeCompact()} */
+  private static StatsNBT readCompact(FriendlyByteBuf buffer) {
+    ImmutableMap.Builder<IToolStat<?>, Object> builder = ImmutableMap.builder();
+    int max = buffer.readVarInt();
+    for (int i = 0; i < max; i++) {
+      String key = buffer.readUtf();
+      byte[] value = buffer.readByteArray();
+      // values are length prefixed so unknown stats can be skipped, matching NBT
+      IToolStat<?> stat = readStatIdFromNBT(key);
+      if (stat != null) {
+        builder.put(stat, stat.fromNetwork(new FriendlyByteBuf(Unpooled.wrappedBuffer(value))));
+      }
+    }
+    return new StatsNBT(builder.build());
+  }
+
+  /** Writes these stats in the compact format, see {@link CompactToolNBT} */
+  public ByteArrayTag serializeCompact() {
+    return CompactToolNBT.write(buffer -> {
+      buffer.writeVarInt(stats.size());
+      for (Entry<IToolStat<?>,Object> entry : stats.entrySet()) {
+        IToolStat<?> stat = entry.getKey();
+        buffer.writeUtf(stat.getName().toString());
+        writeLengthPrefixed(buffer, stat, entry.getValue());
+      }
+    });
+  }
+
+  /**
+   * Writes the stat value prefixed by its length, in the same format as {@link FriendlyByteBuf#writeByteArray(byte[])}.
+   * Values are written directly to the buffer, reserving a single byte for the length as nearly all values are shorter than 128 bytes.
+   */
+  private static void writeLengthPrefixed(FriendlyByteBuf buffer, IToolStat<?> stat, Object value) {
+    int lengthIndex = buffer.writerIndex();
+    buffer.writeByte(0);
+    int start = buffer.writerIndex();
+    toNetwork(buffer, stat, value);
+    int length = buffer.writerIndex() - start;
+    if (length < 0x80) {
+      buffer.setByte(lengthIndex, length);
+    } else {
+      // length needs a longer var int, so rewrite the value after the full length
+      byte[] bytes = new byte[length];
+      buffer.getBytes(start, bytes);
+      buffer.writerIndex(lengthIndex);
+      buffer.writeByteArray(bytes);
+    }
+  }
+
 
   /* Network */
 
@@ -115,6 +115,16 @@ public class ToolStack implements IToolStackView {
   @Nullable
   private IModDataView volatileModData;
 
+  // rebuild tracking
+  /** If true, incremental stat rebuilds are compared against a full rebuild, logging an error if they differ. Set using the system property {@code tconstruct.verifyToolRebuild} */
+  static final boolean verifyRebuild = Boolean.getBoolean("tconstruct.verifyToolRebuild");
+  /** Inputs to the last call to {@link #rebuildStats()} on this instance, used to skip stages whose inputs did not change */
+  @Nullable
+  private RebuildInputs lastRebuild;
+  /** Modifiers added by {@link ToolHooks#TOOL_TRAITS} in the last rebuild, depends only on the tool definition and materials */
+  @Nullable
+  private ModifierNBT lastToolTraits;
+
   /* Creating */
 
   /**
@@ -216,6 +226,8 @@ public class ToolStack implements IToolStackView {
     this.multipliers = null;
     this.volatileModData = null;
     this.persistentModData = null;
+    this.lastRebuild = null;
+    this.lastToolTraits = null;
   }
 
   /** Creates an item stack from this tool stack */
@@ -354,7 +366,7 @@ public class ToolStack implements IToolStackView {
   @Override
   public StatsNBT getStats() {
     if (stats == null) {
-      stats = StatsNBT.readFromNBT(nbt.get(TAG_STATS));
+      stats = ParsedToolCache.get(ParsedToolCache.STATS, nbt.get(TAG_STATS), StatsNBT::readFromNBT);
     }
     return stats;
   }
@@ -365,7 +377,9 @@ public class ToolStack implements IToolStackView {
    */
   protected void setStats(StatsNBT stats) {
     this.stats = stats;
-    nbt.put(TAG_STATS, stats.serializeToNBT());
+    Tag tag = CompactToolNBT.isEnabled() ? stats.serializeCompact() : stats.serializeToNBT();
+    nbt.put(TAG_STATS, tag);
+    ParsedToolCache.STATS.put(tag, stats);
     // if we no longer have enough durability, decrease the damage and mark it broken
     int newMax = getStats().getInt(ToolStats.DURABILITY);
     if (getDamageRaw() >= newMax) {
@@ -376,7 +390,7 @@ public class ToolStack implements IToolStackView {
   @Override
   public MultiplierNBT getMultipliers() {
     if (multipliers == null) {
-      multipliers = MultiplierNBT.readFromNBT(nbt.get(TAG_MULTIPLIERS));
+      multipliers = ParsedToolCache.get(ParsedToolCache.MULTIPLIERS, nbt.get(TAG_MULTIPLIERS), MultiplierNBT::readFromNBT);
     }
     return multipliers;
   }
@@ -391,7 +405,9 @@ public class ToolStack implements IToolStackView {
       nbt.remove(TAG_MULTIPLIERS);
     } else {
       this.multipliers = multipliers;
-      nbt.put(TAG_MULTIPLIERS, multipliers.serializeToNBT());
+      Tag tag = CompactToolNBT.isEnabled() ? multipliers.serializeCompact() : multipliers.serializeToNBT();
+      nbt.put(TAG_MULTIPLIERS, tag);
+      ParsedToolCache.MULTIPLIERS.put(tag, multipliers);
     }
   }
 
@@ -404,7 +420,7 @@ public class ToolStack implements IToolStackView {
       return MaterialNBT.EMPTY;
     }
     if (materials == null) {
-      materials = MaterialNBT.readFromNBT(nbt.get(TAG_MATERIALS));
+      materials = ParsedToolCache.get(ParsedToolCache.MATERIALS, nbt.get(TAG_MATERIALS), MaterialNBT::readFromNBT);
     }
     return materials;
   }
@@ -418,7 +434,9 @@ public class ToolStack implements IToolStackView {
     if (materials == MaterialNBT.EMPTY) {
       this.nbt.remove(TAG_MATERIALS);
     } else {
-      this.nbt.put(TAG_MATERIALS, materials.serializeToNBT());
+      Tag tag = materials.serializeToNBT();
+      this.nbt.put(TAG_MATERIALS, tag);
+      ParsedToolCache.MATERIALS.put(tag, materials);
     }
   }
 
@@ -452,7 +470,7 @@ public class ToolStack implements IToolStackView {
   @Override
   public ModifierNBT getUpgrades() {
     if (upgrades == null) {
-      upgrades = ModifierNBT.readFromNBT(nbt.get(TAG_UPGRADES));
+      upgrades = ParsedToolCache.get(ParsedToolCache.MODIFIERS, nbt.get(TAG_UPGRADES), ModifierNBT::readFromNBT);
     }
     return upgrades;
   }
@@ -462,11 +480,18 @@ public class ToolStack implements IToolStackView {
    * @param modifiers  New upgrades
    */
   public void setUpgrades(ModifierNBT modifiers) {
-    this.upgrades = modifiers;
-    nbt.put(TAG_UPGRADES, modifiers.serializeToNBT());
+    setUpgradesRaw(modifiers);
     rebuildStats();
   }
 
+  /** Updates the upgrades list on the tool without rebuilding stats */
+  private void setUpgradesRaw(ModifierNBT modifiers) {
+    this.upgrades = modifiers;
+    Tag tag = CompactToolNBT.isEnabled() ? modifiers.serializeCompact() : modifiers.serializeToNBT();
+    nbt.put(TAG_UPGRADES, tag);
+    ParsedToolCache.MODIFIERS.put(tag, modifiers);
+  }
+
   /**
    * Adds a single modifier to this tool
    * @param modifier  Modifier to add
@@ -503,16 +528,14 @@ public class ToolStack implements IToolStackView {
     if (level <= 0) {
       throw new IllegalArgumentException("Invalid level, must be above 0");
     }
-    ModifierNBT newModifiers = getUpgrades().withoutModifier(modifier, level);
-    this.upgrades = newModifiers;
-    nbt.put(TAG_UPGRADES, newModifiers.serializeToNBT());
+    setUpgradesRaw(getUpgrades().withoutModifier(modifier, level));
     rebuildStats();
   }
 
   @Override
   public ModifierNBT getModifiers() {
     if (modifiers == null) {
-      modifiers = ModifierNBT.readFromNBT(nbt.get(TAG_MODIFIERS));
+      modifiers = ParsedToolCache.get(ParsedToolCache.MODIFIERS, nbt.get(TAG_MODIFIERS), ModifierNBT::readFromNBT);
     }
     return modifiers;
   }
@@ -523,7 +546,9 @@ public class ToolStack implements IToolStackView {
    */
   protected void setModifiers(ModifierNBT modifiers) {
     this.modifiers = modifiers;
-    nbt.put(TAG_MODIFIERS, this.modifiers.serializeToNBT());
+    Tag tag = CompactToolNBT.isEnabled() ? modifiers.serializeCompact() : modifiers.serializeToNBT();
+    nbt.put(TAG_MODIFIERS, tag);
+    ParsedToolCache.MODIFIERS.put(tag, modifiers);
   }
 
 
@@ -613,18 +638,79 @@ public class ToolStack implements IToolStackView {
   }
 
   /**
-   * Recalculates any relevant cached data. Called after either the materials or modifiers list changes
+   * Inputs to all stages of {@link #rebuildStats()}, stages are deterministic given the same inputs.
+   * Persistent data is a copy as the live tag is mutable, the copy is reused between rebuilds while the contents are unchanged.
+   */
+  private record RebuildInputs(ToolDefinitionData toolData, MaterialNBT materials, ModifierNBT upgrades, CompoundTag persistentData) {
+    /** Checks if the tool traits stage can be reused between the two inputs */
+    public boolean sameTraitInputs(RebuildInputs other) {
+      return toolData == other.toolData && materials.equals(other.materials);
+    }
+  }
+
+  /**
+   * Recalculates any relevant cached data. Called after either the materials or modifiers list changes.
+   * If this tool was rebuilt before, stages are skipped when their inputs did not change since then.
    */
   public void rebuildStats() {
-    // add tool slots to volatile data, ensures it is there even from an empty tool, and properly updates on datapack update
     ToolDefinitionData toolData = getDefinitionData();
+    RebuildInputs last = this.lastRebuild;
+    // only copy persistent data if it changed since the last rebuild, most rebuilds come from modifier or material changes
+    CompoundTag persistentData = getPersistentData().getData();
+    if (last != null && last.persistentData.equals(persistentData)) {
+      persistentData = last.persistentData;
+    } else {
+      persistentData = persistentData.copy();
+    }
+    RebuildInputs inputs = new RebuildInputs(toolData, getMaterials(), getUpgrades(), persistentData);
+    this.lastRebuild = inputs;
+    if (last != null) {
+      // nothing changed means all stages would produce the same result
+      if (last.equals(inputs)) {
+        if (verifyRebuild) {
+          verifyRebuild();
+        }
+        return;
+      }
+      // materials unchanged means we can reuse tool traits
+      if (lastToolTraits != null && last.sameTraitInputs(inputs)) {
+        rebuildStats(toolData, lastToolTraits);
+        if (verifyRebuild) {
+          verifyRebuild();
+        }
+        return;
+      }
+    }
+    rebuildStats(toolData, null);
+  }
 
+  /** Runs a full rebuild on a copy of this tool, logging an error if the result differs from this tool */
+  private void verifyRebuild() {
+    ToolStack full = from(item, definition, nbt.copy());
+    full.rebuildStats(full.getDefinitionData(), null);
+    if (!full.nbt.equals(nbt)) {
+      TConstruct.LOG.error("Incremental stat rebuild for {} differs from a full rebuild. Incremental: {}, full: {}", item, nbt, full.nbt);
+    }
+  }
+
+  /**
+   * Runs the stages of the stat rebuild
+   * @param toolData    Tool definition data
+   * @param toolTraits  Result of {@link ToolHooks#TOOL_TRAITS} to reuse, if null the hook is run
+   */
+  private void rebuildStats(ToolDefinitionData toolData, @Nullable ModifierNBT toolTraits) {
     // first, determine the list of modifiers, this is done in a couple stages
-    // we start by cloning upgrades and adding tool traits and material traits
+    // we start by adding tool traits and material traits to the upgrades
     MaterialNBT materials = getMaterials();
+    if (toolTraits == null) {
+      ModifierNBT.Builder traitBuilder = ModifierNBT.builder();
+      toolData.getHook(ToolHooks.TOOL_TRAITS).addTraits(definition, materials, traitBuilder);
+      toolTraits = traitBuilder.build();
+    }
+    this.lastToolTraits = toolTraits;
     ModifierNBT.Builder modBuilder = ModifierNBT.builder();
     modBuilder.add(getUpgrades());
-    toolData.getHook(ToolHooks.TOOL_TRAITS).addTraits(definition, materials, modBuilder);
+    modBuilder.add(toolTraits);
     ModifierNBT beforeTraits = modBuilder.build();
 
     // temporary context while we add modifier traits, will recreate if we have modifiers
@@ -693,7 +779,8 @@ public class ToolStack implements IToolStackView {
    * @return  True if initialized
    */
   public static boolean isInitialized(CompoundTag tag) {
-    return tag.contains(TAG_STATS, Tag.TAG_COMPOUND);
+    // stats may be in either the standard or compact format
+    return tag.contains(TAG_STATS, Tag.TAG_COMPOUND) || tag.contains(TAG_STATS, Tag.TAG_BYTE_ARRAY);
   }
 
   /**
@@ -17,7 +17,6 @@ import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.entity.player.Player;
-import org.apache.commons.lang3.mutable.MutableInt;
 import slimeknights.mantle.util.JsonHelper;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.client.data.material.AbstractMaterialSpriteProvider.MaterialSpriteInfo;
@@ -45,6 +44,7 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
@@ -105,39 +105,24 @@ public class ClientGeneratePartTexturesCommand {
 
     // predicate for whether we should generate the texture
     AbstractSpriteReader spriteReader = new ResourceManagerSpriteReader(manager, MaterialPartTextureGenerator.FOLDER);
-    MutableInt generated = new MutableInt(0); // keep track of how many generated
     Predicate<ResourceLocation> shouldGenerate;
     if (operation == Operation.ALL) {
-      shouldGenerate = exists -> {
-        generated.add(1);
-        return true;
-      };
+      shouldGenerate = exists -> true;
     } else {
-      shouldGenerate = loc -> {
-        if (!spriteReader.exists(loc)) {
-          generated.add(1);
-          return true;
-        }
-        return false;
-      };
+      shouldGenerate = loc -> !spriteReader.exists(loc);
     }
 
     // at this point in time we have all our materials, time to generate our sprites
-    for (MaterialSpriteInfo material : materialSprites) {
-      for (PartSpriteInfo part : generatorConfig.sprites) {
-        if (material.supportStatType(part.getStatType()) || generatorConfig.statOverrides.hasOverride(part.getStatType(), material.getTexture())) {
-          MaterialPartTextureGenerator.generateSprite(spriteReader, material, part, shouldGenerate, saver, metaSaver);
-        }
-      }
-    }
+    long generateTime = System.nanoTime();
+    int count = MaterialPartTextureGenerator.generateSprites(spriteReader, materialSprites, generatorConfig.sprites, generatorConfig.statOverrides, shouldGenerate, saver, metaSaver);
+    generateTime = System.nanoTime() - generateTime;
     spriteReader.closeAll();
     DynamicTextureLoader.clearCache();
 
     // success message
     long deltaTime = System.nanoTime() - time;
-    int count = generated.getValue();
     MaterialPartTextureGenerator.runCallbacks(null, null);
-    log.info("Finished generating {} textures in {} ms", count, deltaTime / 1000000f);
+    log.info("Finished generating {} textures in {} ms, {} ms generating sprites across {} threads", count, deltaTime / 1000000f, generateTime / 1000000f, ForkJoinPool.getCommonPoolParallelism());
     if (Minecraft.getInstance().player != null) {
       Minecraft.getInstance().player.displayClientMessage(Component.translatable(SUCCESS_KEY, count, (deltaTime / 1000000) / 1000f, getOutputComponent(path.toFile())), false);
     }
@@ -106,6 +106,7 @@ import slimeknights.tconstruct.smeltery.menu.AlloyerContainerMenu;
 import slimeknights.tconstruct.smeltery.menu.HeatingStructureContainerMenu;
 import slimeknights.tconstruct.smeltery.menu.MelterContainerMenu;
 import slimeknights.tconstruct.smeltery.menu.SingleItemContainerMenu;
+import slimeknights.tconstruct.smeltery.network.FluidSyncBatcher;
 import slimeknights.tconstruct.tables.item.TableBlockItem;
 
 import java.util.function.Consumer;
@@ -380,6 +381,10 @@ public final class TinkerSmeltery extends TinkerModule {
   public static final RegistryObject<MenuType<SingleItemContainerMenu>> singleItemContainer = MENUS.register("single_item", SingleItemContainerMenu::new);
   public static final RegistryObject<MenuType<AlloyerContainerMenu>> alloyerContainer = MENUS.register("alloyer", AlloyerContainerMenu::new);
 
+  public TinkerSmeltery() {
+    FluidSyncBatcher.init();
+  }
+
   @SubscribeEvent
   void commonSetup(FMLCommonSetupEvent event) {
     event.enqueueWork(() -> {
@@ -36,8 +36,8 @@ import slimeknights.mantle.util.BlockEntityHelper;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.Sounds;
 import slimeknights.tconstruct.common.TinkerTags;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.casting.CastingRecipeLookup;
 import slimeknights.tconstruct.library.recipe.casting.ICastingRecipe;
 import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
 import slimeknights.tconstruct.shared.block.entity.TableBlockEntity;
@@ -46,11 +46,11 @@ import slimeknights.tconstruct.smeltery.block.AbstractCastingBlock;
 import slimeknights.tconstruct.smeltery.block.entity.inventory.CastingContainerWrapper;
 import slimeknights.tconstruct.smeltery.block.entity.inventory.MoldingContainerWrapper;
 import slimeknights.tconstruct.smeltery.block.entity.tank.CastingFluidHandler;
+import slimeknights.tconstruct.smeltery.network.FluidSyncBatcher;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Optional;
 
 public abstract class CastingBlockEntity extends TableBlockEntity implements WorldlyContainer, FluidUpdatePacket.IFluidPacketReceiver {
   // slots
@@ -332,7 +332,7 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
     if (this.lastCastingRecipe != null && this.lastCastingRecipe.matches(castingInventory, level)) {
       return this.lastCastingRecipe;
     }
-    ICastingRecipe castingRecipe = level.getRecipeManager().getRecipeFor(this.castingType, castingInventory, level).orElse(null);
+    ICastingRecipe castingRecipe = CastingRecipeLookup.findCastingRecipe(this.castingType, castingInventory, level);
     if (castingRecipe != null) {
       this.lastCastingRecipe = castingRecipe;
     }
@@ -350,12 +350,11 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
     if (lastMoldingRecipe != null && lastMoldingRecipe.matches(moldingInventory, level)) {
       return lastMoldingRecipe;
     }
-    Optional<MoldingRecipe> newRecipe = level.getRecipeManager().getRecipeFor(moldingType, moldingInventory, level);
-    if (newRecipe.isPresent()) {
-      lastMoldingRecipe = newRecipe.get();
-      return lastMoldingRecipe;
+    MoldingRecipe newRecipe = CastingRecipeLookup.findMoldingRecipe(moldingType, moldingInventory, level);
+    if (newRecipe != null) {
+      lastMoldingRecipe = newRecipe;
     }
-    return null;
+    return newRecipe;
   }
 
 
@@ -444,8 +443,7 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
     // update client
     Level world = getLevel();
     if (world != null && !world.isClientSide) {
-      BlockPos pos = getBlockPos();
-      TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(pos, fluidStack), world, pos);
+      FluidSyncBatcher.queueFluid(world, getBlockPos(), fluidStack);
     }
   }
 
@@ -21,15 +21,13 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.mantle.util.WeakConsumerWrapper;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.fluid.FillOnlyFluidHandler;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock.ChannelConnection;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ChannelSideTank;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ChannelTank;
-import slimeknights.tconstruct.smeltery.network.ChannelFlowPacket;
-import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
+import slimeknights.tconstruct.smeltery.network.FluidSyncBatcher;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket.IFluidPacketReceiver;
 
 import javax.annotation.Nullable;
@@ -65,6 +63,8 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 
 	/** Stores if the channel is currently flowing, set to 2 to allow a small buffer */
 	private final byte[] isFlowing = new byte[5];
+	/** If true, the channel has no fluid and no flowing sides, so ticking does nothing until fluid is inserted */
+	private boolean sleeping = false;
 
 	public ChannelBlockEntity(BlockPos pos, BlockState state) {
 		this(TinkerSmeltery.channel.get(), pos, state);
@@ -235,6 +235,9 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 		int index = getFlowIndex(side);
 		boolean wasFlowing = isFlowing[index] > 0;
 		isFlowing[index] = (byte)(flowing ? 2 : 0);
+		if (flowing) {
+			wake();
+		}
 
 		// send packet to client if it changed
 		if(wasFlowing != flowing && level != null && !level.isClientSide) {
@@ -296,16 +299,27 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 	 * @param flowing  Flowing state to sync
 	 */
 	private void syncFlowToClient(Direction side, boolean flowing) {
-		TinkerNetwork.getInstance().sendToClientsAround(new ChannelFlowPacket(worldPosition, side, flowing), level, worldPosition);
+		FluidSyncBatcher.queueFlow(level, worldPosition, side, flowing);
 	}
 
 
 	/* Flow */
 
+	/**
+	 * Resumes ticking the channel, called when fluid is inserted or a side starts flowing
+	 */
+	public void wake() {
+		sleeping = false;
+	}
+
 	/**
 	 * Server ticking logic
 	 */
 	private void tick(BlockState state) {
+		// empty and not flowing, nothing to update
+		if (sleeping) {
+			return;
+		}
 		// must have fluid first
 		FluidStack fluid = tank.getFluid();
 		if (!fluid.isEmpty()) {
@@ -327,9 +341,11 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 		}
 
 		// clear flowing if we should no longer flow on a side
+		boolean anyFlowing = false;
 		for (int i = 0; i < 5; i++) {
 			if (isFlowing[i] > 0) {
 				isFlowing[i]--;
+				anyFlowing |= isFlowing[i] > 0;
 				if (isFlowing[i] == 0) {
 					Direction direction;
 					if (i == 0) {
@@ -343,6 +359,10 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 		}
 
 		tank.freeFluid();
+		// nothing left to do until fluid is inserted
+		if (tank.isEmpty() && !anyFlowing) {
+			sleeping = true;
+		}
 	}
 
 	/**
@@ -402,7 +422,7 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 	 */
 	public void sendFluidUpdate() {
 		if (level != null && !level.isClientSide) {
-			TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(worldPosition, getFluid()), level, worldPosition);
+			FluidSyncBatcher.queueFluid(level, worldPosition, getFluid());
 		}
 	}
 
@@ -32,6 +32,8 @@ public class FaucetBlockEntity extends MantleBlockEntity {
   public static final int PACKET_SIZE = FluidValues.INGOT;
   /** Transfer rate of the faucet */
   public static final int MB_PER_TICK = 10;
+  /** Maximum number of ticks to wait between checks when powered with nothing to pour */
+  private static final int MAX_RETRY_DELAY = 10;
 
   public static final BlockEntityTicker<FaucetBlockEntity> SERVER_TICKER = (level, pos, world, self) -> self.tick();
 
@@ -52,6 +54,10 @@ public class FaucetBlockEntity extends MantleBlockEntity {
   private FluidStack renderFluid = FluidStack.EMPTY;
   /** Used for pulse detection */
   private boolean lastRedstoneState = false;
+  /** Ticks to wait before checking for fluid again while powered, doubles each failed check up to {@link #MAX_RETRY_DELAY} */
+  private int retryDelay = 0;
+  /** Ticks remaining until the next check while powered */
+  private int retryTicks = 0;
 
   /** Fluid handler of the input to the faucet */
   private LazyOptional<IFluidHandler> inputHandler;
@@ -124,6 +130,7 @@ public class FaucetBlockEntity extends MantleBlockEntity {
    * @param neighbor  Neighbor position that changed
    */
   public void neighborChanged(BlockPos neighbor) {
+    wake();
     // if the neighbor was below us, remove output
     if (worldPosition.equals(neighbor.above())) {
       outputHandler = null;
@@ -146,6 +153,12 @@ public class FaucetBlockEntity extends MantleBlockEntity {
 
   /* Activation */
 
+  /** Clears any delay on checking for fluid, called when something changed that may allow pouring */
+  private void wake() {
+    retryDelay = 0;
+    retryTicks = 0;
+  }
+
   /**
    * Toggles pouring state and initiates transfer if appropriate. Called on right click and from redstone
    */
@@ -154,6 +167,7 @@ public class FaucetBlockEntity extends MantleBlockEntity {
     if (level == null || level.isClientSide) {
       return;
     }
+    wake();
     // already pouring? we want to start
     switch (faucetState) {
       // off activates the faucet
@@ -178,6 +192,7 @@ public class FaucetBlockEntity extends MantleBlockEntity {
   public void handleRedstone(boolean hasSignal) {
     if (hasSignal != lastRedstoneState) {
       lastRedstoneState = hasSignal;
+      wake();
       if (hasSignal) {
         if (level != null){
           level.scheduleTick(worldPosition, this.getBlockState().getBlock(), 2);
@@ -197,10 +212,18 @@ public class FaucetBlockEntity extends MantleBlockEntity {
     // nothing to do if not pouring
     if (faucetState == FaucetState.OFF) {
       return;
+    } else if (faucetState == FaucetState.POWERED) {
+      // input was empty on the last check, wait before checking again
+      if (retryTicks > 0) {
+        retryTicks--;
+        return;
+      }
       // if powered and we can transfer, schedule transfer for next tick
-    } else if (faucetState == FaucetState.POWERED && doTransfer(false)) {
-      faucetState = FaucetState.POURING;
-      return;
+      if (doTransfer(false)) {
+        faucetState = FaucetState.POURING;
+        wake();
+        return;
+      }
     }
 
     // continue current stack
@@ -213,6 +236,12 @@ public class FaucetBlockEntity extends MantleBlockEntity {
     } else {
       doTransfer(true);
     }
+
+    // still waiting on fluid, back off so idle powered faucets are not polling their input every tick
+    if (faucetState == FaucetState.POWERED) {
+      retryDelay = Math.min(Math.max(retryDelay * 2, 1), MAX_RETRY_DELAY);
+      retryTicks = retryDelay;
+    }
   }
 
   /**
@@ -55,10 +55,9 @@ public class FoundryBlockEntity extends HeatingStructureBlockEntity {
 
     // the next set of behaviors all require fuel, skip if no tanks
     if (structure.hasTanks()) {
-      // every second, interact with entities, will consume fuel if needed
-      boolean entityMelted = false;
-      if (tick == 12) {
-        entityMelted = entityModule.interactWithEntities();
+      // interact with entities on the configured interval, will consume fuel if needed
+      if (entityModule.tick()) {
+        entityMelted = true;
       }
 
       // run in four phases alternating each tick, so each thing runs once every 4 ticks
@@ -69,13 +68,18 @@ public class FoundryBlockEntity extends HeatingStructureBlockEntity {
             // if we melted something already, we need fuel
             if (entityMelted) {
               fuelModule.findFuel(true);
-            } else {
+            } else if (!sleeping || meltingInventory.hasActiveSlots()) {
               // both alloying and melting need to know the temperature
               if (meltingInventory.canHeat(fuelModule.findFuel(false))) {
+                sleeping = false;
                 fuelModule.findFuel(true);
+              } else {
+                // if nothing could heat at any temperature, wait for the inventory or tank to change before checking fuel again
+                sleeping = !meltingInventory.hasActiveSlots();
               }
             }
           }
+          entityMelted = false;
           break;
         // second tick: melt items
         case 1:
@@ -56,9 +56,11 @@ import javax.annotation.Nullable;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static slimeknights.mantle.util.RetexturedHelper.TAG_TEXTURE;
@@ -110,16 +112,23 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
 
 
   /** Module handling entity interaction */
+  @Getter
   protected final EntityMeltingModule entityModule = new EntityMeltingModule(this, tank, this::canMeltEntities, this::insertIntoInventory, () -> structure == null ? null : structure.getBounds());
 
 
   /* Instance data, this data is not written to Tag */
   /** Timer to allow delaying actions based on number of ticks alive */
   protected int tick = 0;
+  /** If true, an entity was melted since the last fuel check so fuel is needed */
+  protected boolean entityMelted = false;
+  /** If true, nothing can be heated until the inventory or tank changes, so searching for fuel is skipped */
+  protected boolean sleeping = false;
   /** Updates every second. Once it reaches 10, checks above the smeltery for a layer to see if we can expand up */
   private int expandCounter = 0;
   /** If true, structure will check for an update next tick */
   private boolean structureUpdateQueued = false;
+  /** Positions changed since the last tick that may affect the structure, validated together on the next tick */
+  private final Set<BlockPos> changedPositions = new HashSet<>();
   /** If true, fluids have changed since the last update and should be synced to the client, synced at most once every 4 ticks */
   private boolean fluidUpdateQueued = false;
   /** Cache of the bounds for the case of no structure */
@@ -201,6 +210,10 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
       return;
     }
 
+    // validate changed blocks, may queue a full structure update
+    if (!changedPositions.isEmpty()) {
+      validateChanges();
+    }
     // run structure update if requested
     if (structureUpdateQueued) {
       checkStructure();
@@ -215,6 +228,7 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
         if (expandCounter >= 10 && structure.getInnerY() < multiblock.getMaxHeight()) {
           expandCounter = 0;
           // instead of rechecking the whole structure, just recheck the layer above and queue an update if its usable
+          // blocks placed without an entity, such as by pistons or commands, do not notify us, so this is the only way to notice them
           if (multiblock.canExpand(structure, level)) {
             updateStructure();
           } else {
@@ -232,10 +246,11 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
       heat();
 
       // fluid update sync every four ticks, whether it has tanks or not
+      // once a second also sync without changes so players who came into range receive the fluids
       if (tick % 4 == 3) {
-        if (fluidUpdateQueued) {
+        if (fluidUpdateQueued || tick == 3) {
+          tank.syncFluids(fluidUpdateQueued);
           fluidUpdateQueued = false;
-          tank.syncFluids();
         }
       }
     } else if (tick == 0) {
@@ -297,6 +312,7 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
    */
   protected void setStructure(@Nullable StructureData structure) {
     this.structure = structure;
+    this.sleeping = false;
   }
 
   /**
@@ -371,8 +387,41 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
 
     assert level != null;
     if (multiblock.shouldUpdate(level, structure, pos, state)) {
-      updateStructure();
+      changedPositions.add(pos.immutable());
+    }
+  }
+
+  /**
+   * Validates all positions changed since the last tick. A full structure check only runs if the changes could change the bounds,
+   * blocks placed above the structure just check the layer above.
+   */
+  private void validateChanges() {
+    if (structure != null && !structureUpdateQueued && level != null) {
+      boolean checkExpand = false;
+      for (BlockPos pos : changedPositions) {
+        // block may have changed again since we were notified
+        if (!multiblock.shouldUpdate(level, structure, pos, level.getBlockState(pos))) {
+          continue;
+        }
+        // blocks above only matter once the whole layer is valid
+        if (structure.isDirectlyAbove(pos)) {
+          checkExpand = true;
+        } else {
+          // invalid walls or blocks inside shrink the structure, so need a full check
+          updateStructure();
+          checkExpand = false;
+          break;
+        }
+      }
+      if (checkExpand && structure.getInnerY() < multiblock.getMaxHeight()) {
+        if (multiblock.canExpand(structure, level)) {
+          updateStructure();
+        } else {
+          updateErrorPos();
+        }
+      }
     }
+    changedPositions.clear();
   }
 
   /** Gets the last result from this multiblock */
@@ -443,6 +492,8 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
     } else {
       // mark that fluids need an update on the client
       fluidUpdateQueued = true;
+      // new fluids may allow alloying or let a full slot finish
+      sleeping = false;
       this.setChangedFast();
     }
   }
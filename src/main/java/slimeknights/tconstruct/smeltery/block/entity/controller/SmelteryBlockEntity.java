@@ -61,10 +61,9 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
 
     // the next set of behaviors all require fuel, skip if no tanks
     if (structure.hasTanks()) {
-      // every second, interact with entities, will consume fuel if needed
-      boolean entityMelted = false;
-      if (tick == 12) {
-        entityMelted = entityModule.interactWithEntities();
+      // interact with entities on the configured interval, will consume fuel if needed
+      if (entityModule.tick()) {
+        entityMelted = true;
       }
       // run in four phases alternating each tick, so each thing runs once every 4 ticks
       switch (tick % 4) {
@@ -74,15 +73,20 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
             // if we melted something already, we need fuel
             if (entityMelted) {
               fuelModule.findFuel(true);
-            } else {
+            } else if (!sleeping || meltingInventory.hasActiveSlots()) {
               // both alloying and melting need to know the temperature
               int possibleTemp = fuelModule.findFuel(false);
               alloyTank.setTemperature(possibleTemp);
               if (meltingInventory.canHeat(possibleTemp) || alloyingModule.canAlloy()) {
+                sleeping = false;
                 fuelModule.findFuel(true);
+              } else {
+                // if nothing could heat at any temperature, wait for the inventory or tank to change before checking fuel again
+                sleeping = !meltingInventory.hasActiveSlots() && !alloyingModule.hasRecipes();
               }
             }
           }
+          entityMelted = false;
           break;
         // second tick: melt items
         case 1:
@@ -135,7 +139,7 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
     // adding a new fluid means recipes that previously did not match might match now
     // can ignore removing a fluid as that is handled internally by the module
     if (type == FluidChange.ADDED) {
-      alloyingModule.clearCachedRecipes();
+      alloyingModule.onFluidAdded(fluid.getFluid());
     }
   }
 }
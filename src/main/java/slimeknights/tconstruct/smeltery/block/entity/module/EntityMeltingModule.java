@@ -17,12 +17,12 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags.EntityTypes;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.fluids.TinkerFluids;
 import slimeknights.tconstruct.library.recipe.FluidValues;
 import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
 import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipeCache;
 
-import javax.annotation.Nullable;
 import java.util.Objects;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
@@ -47,32 +47,14 @@ public class EntityMeltingModule {
   /** Function that returns the bounds to check for entities */
   private final Supplier<AABB> bounds;
 
-  @Nullable
-  private EntityMeltingRecipe lastRecipe;
+  /** Ticks until the next time entities are checked */
+  private int cooldown = 0;
 
   /** Gets a nonnull world instance from the parent */
   private Level getLevel() {
     return Objects.requireNonNull(parent.getLevel(), "Parent tile entity has null world");
   }
 
-  /**
-   * Finds a recipe for the given entity type
-   * @param type  Entity type
-   * @return  Recipe
-   */
-  @Nullable
-  private EntityMeltingRecipe findRecipe(EntityType<?> type) {
-    if (lastRecipe != null && lastRecipe.matches(type)) {
-      return lastRecipe;
-    }
-    // find a new recipe if the last recipe does not match
-    EntityMeltingRecipe recipe = EntityMeltingRecipeCache.findRecipe(getLevel().getRecipeManager(), type);
-    if (recipe != null) {
-      lastRecipe = recipe;
-    }
-    return recipe;
-  }
-
   /**
    * Gets the default fluid result
    * @return  Default fluid
@@ -96,6 +78,19 @@ public class EntityMeltingModule {
            && !entity.hasEffect(MobEffects.FIRE_RESISTANCE);
   }
 
+  /**
+   * Called each tick while the structure is heating to interact with entities on the configured interval
+   * @return True if something was melted and fuel is needed
+   */
+  public boolean tick() {
+    cooldown--;
+    if (cooldown > 0) {
+      return false;
+    }
+    cooldown = Config.COMMON.entityMeltingInterval.get();
+    return interactWithEntities();
+  }
+
   /**
    * Interacts with entities in the structure
    * @return True if something was melted and fuel is needed
@@ -106,52 +101,50 @@ public class EntityMeltingModule {
       return false;
     }
 
-    Boolean canMelt = null;
-    boolean melted = false;
-    for (Entity entity : getLevel().getEntitiesOfClass(Entity.class, boundingBox)) {
-      if (!entity.isAlive()) {
-        continue;
-      }
-
-      // items are placed inside the smeltery
-      EntityType<?> type = entity.getType();
-      if (entity instanceof ItemEntity itemEntity) {
-        ItemStack stack = insertFunction.apply(itemEntity.getItem());
-        // picked up whole stack
-        if (stack.isEmpty()) {
-          entity.discard();
-        } else {
-          itemEntity.setItem(stack);
-        }
+    // items are placed inside the smeltery
+    // query items and living entities separately, as the entity lookup is indexed by class, this skips any other entities in the structure
+    Level level = getLevel();
+    for (ItemEntity itemEntity : level.getEntitiesOfClass(ItemEntity.class, boundingBox, Entity::isAlive)) {
+      ItemStack stack = insertFunction.apply(itemEntity.getItem());
+      // picked up whole stack
+      if (stack.isEmpty()) {
+        itemEntity.discard();
+      } else {
+        itemEntity.setItem(stack);
       }
+    }
 
+    Boolean canMelt = null;
+    boolean melted = false;
+    for (LivingEntity entity : level.getEntitiesOfClass(LivingEntity.class, boundingBox, Entity::isAlive)) {
       // only can melt living, ensure its not immune to our damage
-      // if canMelt is already found as false, skip instance checks, we only care about items now
       // if the type is hidden, skip as well, I suppose thats your blacklist if you must have one
-      else if (canMelt != Boolean.FALSE && !type.is(EntityTypes.MELTING_HIDE) && entity instanceof LivingEntity && canMeltEntity((LivingEntity)entity)) {
+      EntityType<?> type = entity.getType();
+      if (!type.is(EntityTypes.MELTING_HIDE) && canMeltEntity(entity)) {
         // only fetch boolean once, its not the fastest as it tries to consume fuel
         if (canMelt == null) canMelt = canMeltEntities.getAsBoolean();
+        // if we cannot melt, nothing left to do as items were already handled
+        if (!canMelt) {
+          break;
+        }
 
-        // ensure we have fuel/any other needed smeltery states
-        if (canMelt) {
-          // determine what we are melting
-          FluidStack fluid;
-          int damage;
-          EntityMeltingRecipe recipe = findRecipe(entity.getType());
-          if (recipe != null) {
-            fluid = recipe.getOutput((LivingEntity) entity);
-            damage = recipe.getDamage();
-          } else {
-            fluid = getDefaultFluid();
-            damage = 2;
-          }
+        // determine what we are melting
+        FluidStack fluid;
+        int damage;
+        EntityMeltingRecipe recipe = EntityMeltingRecipeCache.findRecipe(level.getRecipeManager(), type);
+        if (recipe != null) {
+          fluid = recipe.getOutput(entity);
+          damage = recipe.getDamage();
+        } else {
+          fluid = getDefaultFluid();
+          damage = 2;
+        }
 
-          // if the entity is successfully damaged, fill the tank with fluid
-          if (entity.hurt(entity.fireImmune() ? SMELTERY_MAGIC : SMELTERY_DAMAGE, damage)) {
-            // its fine if we don't fill it all, leftover fluid is just lost
-            tank.fill(fluid, FluidAction.EXECUTE);
-            melted = true;
-          }
+        // if the entity is successfully damaged, fill the tank with fluid
+        if (entity.hurt(entity.fireImmune() ? SMELTERY_MAGIC : SMELTERY_DAMAGE, damage)) {
+          // its fine if we don't fill it all, leftover fluid is just lost
+          tank.fill(fluid, FluidAction.EXECUTE);
+          melted = true;
         }
       }
     }
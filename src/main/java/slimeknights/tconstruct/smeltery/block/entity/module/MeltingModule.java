@@ -10,12 +10,11 @@ import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.tconstruct.common.network.InventorySlotSyncPacket;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingContainer;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeLookup;
 
 import javax.annotation.Nullable;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
@@ -107,6 +106,14 @@ public class MeltingModule implements IMeltingContainer, ContainerData {
   }
 
 
+  /**
+   * Checks if this slot has an item with a recipe, meaning heating or cooling may change its state
+   * @return  True if the slot is active
+   */
+  public boolean isActive() {
+    return requiredTime > 0 && !stack.isEmpty();
+  }
+
   /**
    * Checks if this slot has an item it can heat
    * @param  temperature  Temperature to try
@@ -176,12 +183,11 @@ public class MeltingModule implements IMeltingContainer, ContainerData {
       return last;
     }
     // if that fails, try to find a new recipe
-    Optional<IMeltingRecipe> newRecipe = world.getRecipeManager().getRecipeFor(TinkerRecipeTypes.MELTING.get(), this, world);
-    if (newRecipe.isPresent()) {
-      lastRecipe = newRecipe.get();
-      return lastRecipe;
+    IMeltingRecipe newRecipe = MeltingRecipeLookup.findRecipe(this, world);
+    if (newRecipe != null) {
+      lastRecipe = newRecipe;
     }
-    return null;
+    return newRecipe;
   }
 
   /**
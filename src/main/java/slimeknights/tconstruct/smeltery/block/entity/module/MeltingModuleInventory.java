@@ -16,6 +16,7 @@ import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
 
 import javax.annotation.Nonnull;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.function.Consumer;
 
 /**
@@ -36,6 +37,8 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
   private final boolean strictSize;
   /** Number of nuggets to produce when melting an ore */
   private final IOreRate oreRate;
+  /** Slots containing an item with a recipe, heating and cooling only needs to visit these slots */
+  private final BitSet activeSlots = new BitSet();
 
   /**
    * Creates a new inventory with a fixed size
@@ -93,6 +96,19 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
     return validSlot(slot) && modules[slot] != null;
   }
 
+  /** Updates the active state of the given slot */
+  private void updateActive(int slot) {
+    activeSlots.set(slot, modules[slot] != null && modules[slot].isActive());
+  }
+
+  /**
+   * Checks if any slot contains an item that can be heated
+   * @return  True if any slot is active
+   */
+  public boolean hasActiveSlots() {
+    return !activeSlots.isEmpty();
+  }
+
   /**
    * Gets the current time of a slot
    * @param slot  Slot index
@@ -164,6 +180,9 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
 
     // resize the module array
     modules = Arrays.copyOf(modules, newSize);
+    if (newSize < activeSlots.length()) {
+      activeSlots.clear(newSize, activeSlots.length());
+    }
     parent.setChangedFast();
   }
 
@@ -197,6 +216,7 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
         }
         getModule(slot).setStack(stack);
       }
+      updateActive(slot);
     }
   }
 
@@ -251,8 +271,8 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
    * @return  True if a slot can heat
    */
   public boolean canHeat(int temperature) {
-    for (MeltingModule module : modules) {
-      if (module != null && module.canHeatItem(temperature)) {
+    for (int i = activeSlots.nextSetBit(0); i >= 0; i = activeSlots.nextSetBit(i + 1)) {
+      if (modules[i].canHeatItem(temperature)) {
         return true;
       }
     }
@@ -279,10 +299,9 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
    * @param temperature  Heating structure temperature
    */
   public void heatItems(int temperature) {
-    for (MeltingModule module : modules) {
-      if (module != null) {
-        module.heatItem(temperature);
-      }
+    for (int i = activeSlots.nextSetBit(0); i >= 0; i = activeSlots.nextSetBit(i + 1)) {
+      modules[i].heatItem(temperature);
+      updateActive(i);
     }
   }
 
@@ -290,10 +309,9 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
    * Cools down all items in the inventory, used when there is no fuel
    */
   public void coolItems() {
-    for (MeltingModule module : modules) {
-      if (module != null) {
-        module.coolItem();
-      }
+    for (int i = activeSlots.nextSetBit(0); i >= 0; i = activeSlots.nextSetBit(i + 1)) {
+      modules[i].coolItem();
+      updateActive(i);
     }
   }
 
@@ -335,6 +353,7 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
         module.setStack(ItemStack.EMPTY);
       }
     }
+    activeSlots.clear();
 
     ListTag list = nbt.getList(TAG_ITEMS, Tag.TAG_COMPOUND);
     for (int i = 0; i < list.size(); i++) {
@@ -343,6 +362,7 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
         int slot = item.getByte(TAG_SLOT) & 255;
         if (validSlot(slot)) {
           getModule(slot).readFromTag(item);
+          updateActive(slot);
         }
       }
     }
@@ -1,13 +1,16 @@
 package slimeknights.tconstruct.smeltery.block.entity.module.alloying;
 
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipeLookup;
 import slimeknights.tconstruct.library.recipe.alloying.IAlloyTank;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
 
 import javax.annotation.Nullable;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -47,7 +50,7 @@ public class MultiAlloyingModule implements IAlloyingModule {
    */
   private List<AlloyRecipe> getRecipes() {
     if (lastRecipes == null) {
-      lastRecipes = getLevel().getRecipeManager().getRecipesFor(TinkerRecipeTypes.ALLOYING.get(), alloyTank, getLevel());
+      lastRecipes = AlloyRecipeLookup.findRecipes(alloyTank, getLevel());
     }
     return lastRecipes;
   }
@@ -96,9 +99,41 @@ public class MultiAlloyingModule implements IAlloyingModule {
   }
 
   /**
-   * Clears the list of cached recipes, called when the tank gains a new fluid
+   * Checks if any recipe matches the tank, regardless of temperature
+   * @return  True if a recipe may be performed with enough heat
+   */
+  public boolean hasRecipes() {
+    return !getRecipes().isEmpty();
+  }
+
+  /**
+   * Clears the list of cached recipes, causing them to be fully recomputed next time they are needed
    */
   public void clearCachedRecipes() {
     lastRecipes = null;
   }
+
+  /**
+   * Called when the tank gains a new fluid to add any recipes using that fluid which now match.
+   * Removed fluids do not need handling as {@link #iterateRecipes(Predicate)} drops recipes that no longer match.
+   * @param fluid  Fluid added to the tank
+   */
+  public void onFluidAdded(Fluid fluid) {
+    // if the list is not yet computed, nothing to update
+    List<AlloyRecipe> recipes = lastRecipes;
+    if (recipes == null) {
+      return;
+    }
+    Level world = getLevel();
+    RecipeManager manager = world.getRecipeManager();
+    List<AlloyRecipe> using = AlloyRecipeLookup.getRecipesUsing(manager, fluid);
+    if (!using.isEmpty()) {
+      BitSet present = AlloyRecipeLookup.getPresentFluids(manager, alloyTank);
+      for (AlloyRecipe recipe : using) {
+        if (!recipes.contains(recipe) && AlloyRecipeLookup.hasInputs(manager, recipe, present) && recipe.matches(alloyTank, world)) {
+          recipes.add(recipe);
+        }
+      }
+    }
+  }
 }
@@ -45,8 +45,9 @@ public class ChannelTank extends FluidTank {
 	public int fill(FluidStack resource, FluidAction action) {
 		boolean wasEmpty = isEmpty();
 		int amount = super.fill(resource, action);
-		if(action.execute()) {
+		if(action.execute() && amount > 0) {
 			locked += amount;
+			parent.wake();
 			// if we added something, sync to client
 			if (wasEmpty && !isEmpty()) {
 				parent.sendFluidUpdate();
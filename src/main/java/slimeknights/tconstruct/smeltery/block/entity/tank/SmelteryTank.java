@@ -6,22 +6,34 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
-import net.minecraft.world.level.Level;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
+import slimeknights.mantle.inventory.BaseContainerMenu;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.smeltery.network.SmelteryTankUpdatePacket;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler.FluidChange;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Fluid handler implementation for the smeltery
  */
 public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> implements IFluidHandler {
+  /** Squared distance from the controller within which players receive fluid updates without the GUI open, matches the default block entity render distance */
+  private static final int SYNC_DISTANCE_SQR = 64 * 64;
+
   private final T parent;
   /** Fluids actually contained in the tank */
   @Getter
@@ -31,6 +43,10 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
   /** Current amount of fluid in the tank */
   @Getter
   private int contained;
+  /** Copy of the fluids as of the last sync, used to send just the changed amounts */
+  private final List<FluidStack> syncedFluids = new ArrayList<>();
+  /** Players who have received the fluids in {@link #syncedFluids} */
+  private final Set<UUID> syncedPlayers = new HashSet<>();
 
   public SmelteryTank(T parent) {
     fluids = Lists.newArrayList();
@@ -40,16 +56,88 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
   }
 
   /**
-   * Called when the fluids change to sync to client
+   * Syncs fluids to interested clients, called periodically by the parent.
+   * Players already in sync are sent just the changed amounts, while players who just became interested are sent the full list.
+   * @param changed  If true, fluids changed since the last call
    */
-  public void syncFluids() {
-    Level world = parent.getLevel();
-    if (world != null && !world.isClientSide) {
-      BlockPos pos = parent.getBlockPos();
-      TinkerNetwork.getInstance().sendToClientsAround(new SmelteryTankUpdatePacket(pos, fluids), world, pos);
+  public void syncFluids(boolean changed) {
+    if (!(parent.getLevel() instanceof ServerLevel level)) {
+      return;
+    }
+    BlockPos pos = parent.getBlockPos();
+    // determine what changed since the last sync, if the fluid order changed we need a full update
+    SmelteryTankUpdatePacket delta = null;
+    boolean reordered = false;
+    if (changed) {
+      delta = createDelta(pos);
+      reordered = delta == null;
+      syncedFluids.clear();
+      for (FluidStack fluid : fluids) {
+        syncedFluids.add(fluid.copy());
+      }
+    }
+
+    // send updates to each player who can see the tank
+    SmelteryTankUpdatePacket full = null;
+    List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(new ChunkPos(pos), false);
+    for (ServerPlayer player : players) {
+      UUID uuid = player.getUUID();
+      if (!isInterested(player, pos)) {
+        // player will need a full update once interested again
+        syncedPlayers.remove(uuid);
+      } else if (reordered || !syncedPlayers.contains(uuid)) {
+        if (full == null) {
+          full = new SmelteryTankUpdatePacket(pos, fluids);
+        }
+        TinkerNetwork.getInstance().sendTo(full, player);
+        syncedPlayers.add(uuid);
+      } else if (delta != null && !delta.isEmpty()) {
+        TinkerNetwork.getInstance().sendTo(delta, player);
+      }
+    }
+    // players who stopped tracking the chunk will receive the tank with the chunk when they return
+    if (syncedPlayers.size() > players.size()) {
+      syncedPlayers.removeIf(uuid -> players.stream().noneMatch(player -> player.getUUID().equals(uuid)));
     }
   }
 
+  /**
+   * Creates a packet containing the amounts that changed since the last sync
+   * @param pos  Position of the parent
+   * @return  Packet, or null if fluids were added, removed, or reordered
+   */
+  @Nullable
+  private SmelteryTankUpdatePacket createDelta(BlockPos pos) {
+    int size = fluids.size();
+    if (size != syncedFluids.size()) {
+      return null;
+    }
+    int[] indices = new int[size];
+    int[] amounts = new int[size];
+    int changed = 0;
+    for (int i = 0; i < size; i++) {
+      FluidStack fluid = fluids.get(i);
+      FluidStack synced = syncedFluids.get(i);
+      if (!fluid.isFluidEqual(synced)) {
+        return null;
+      }
+      if (fluid.getAmount() != synced.getAmount()) {
+        indices[changed] = i;
+        amounts[changed] = fluid.getAmount();
+        changed++;
+      }
+    }
+    return new SmelteryTankUpdatePacket(pos, Arrays.copyOf(indices, changed), Arrays.copyOf(amounts, changed));
+  }
+
+  /** Checks if the player should receive fluid updates, true if they have the GUI open or are close enough to see the fluids */
+  private boolean isInterested(ServerPlayer player, BlockPos pos) {
+    if (player.containerMenu instanceof BaseContainerMenu<?> menu && menu.getTile() == parent) {
+      return true;
+    }
+    return player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) <= SYNC_DISTANCE_SQR;
+  }
+
 
   /* Capacity and space */
 
@@ -263,6 +351,22 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
     }
   }
 
+  /**
+   * Updates the amounts of fluids in the tank, typically from a packet
+   * @param indices  Indices of fluids to update
+   * @param amounts  New amount for each index
+   */
+  public void setAmounts(int[] indices, int[] amounts) {
+    for (int i = 0; i < indices.length; i++) {
+      int index = indices[i];
+      if (index >= 0 && index < fluids.size()) {
+        FluidStack fluid = fluids.get(index);
+        contained += amounts[i] - fluid.getAmount();
+        fluid.setAmount(amounts[i]);
+      }
+    }
+  }
+
   /** Writes the tank to NBT */
   public CompoundTag write(CompoundTag nbt) {
     ListTag list = new ListTag();
@@ -0,0 +1,83 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.util.BlockEntityHelper;
+import slimeknights.tconstruct.smeltery.block.entity.ChannelBlockEntity;
+import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket.IFluidPacketReceiver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet syncing all fluid and channel flow changes within a single chunk for a tick.
+ * Sent instead of individual fluid and flow packets for each block to reduce network overhead from long channel lines.
+ * @see FluidSyncBatcher
+ */
+public class FluidBatchUpdatePacket implements IThreadsafePacket {
+  private final List<FluidEntry> fluids;
+  private final List<FlowEntry> flows;
+
+  public FluidBatchUpdatePacket(List<FluidEntry> fluids, List<FlowEntry> flows) {
+    this.fluids = fluids;
+    this.flows = flows;
+  }
+
+  public FluidBatchUpdatePacket(FriendlyByteBuf buffer) {
+    int size = buffer.readVarInt();
+    fluids = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      fluids.add(new FluidEntry(buffer.readBlockPos(), buffer.readFluidStack()));
+    }
+    size = buffer.readVarInt();
+    flows = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      flows.add(new FlowEntry(buffer.readBlockPos(), buffer.readEnum(Direction.class), buffer.readBoolean()));
+    }
+  }
+
+  @Override
+  public void encode(FriendlyByteBuf buffer) {
+    buffer.writeVarInt(fluids.size());
+    for (FluidEntry entry : fluids) {
+      buffer.writeBlockPos(entry.pos);
+      buffer.writeFluidStack(entry.fluid);
+    }
+    buffer.writeVarInt(flows.size());
+    for (FlowEntry entry : flows) {
+      buffer.writeBlockPos(entry.pos);
+      buffer.writeEnum(entry.side);
+      buffer.writeBoolean(entry.flow);
+    }
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    HandleClient.handle(this);
+  }
+
+  /** New fluid for a position */
+  public record FluidEntry(BlockPos pos, FluidStack fluid) {}
+
+  /** New flowing state for a channel side */
+  public record FlowEntry(BlockPos pos, Direction side, boolean flow) {}
+
+  /** Safely runs client side only code in a method only called on client */
+  private static class HandleClient {
+    private static void handle(FluidBatchUpdatePacket packet) {
+      Level level = Minecraft.getInstance().level;
+      for (FluidEntry entry : packet.fluids) {
+        BlockEntityHelper.get(IFluidPacketReceiver.class, level, entry.pos).ifPresent(te -> te.updateFluidTo(entry.fluid));
+      }
+      for (FlowEntry entry : packet.flows) {
+        BlockEntityHelper.get(ChannelBlockEntity.class, level, entry.pos).ifPresent(te -> te.setFlow(entry.side, entry.flow));
+      }
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.LevelTickEvent;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.fluids.FluidStack;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.network.FluidBatchUpdatePacket.FlowEntry;
+import slimeknights.tconstruct.smeltery.network.FluidBatchUpdatePacket.FluidEntry;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Collects fluid and channel flow updates during a level tick, sending a single {@link FluidBatchUpdatePacket} per chunk at the end of the tick.
+ * Multiple updates to the same position within a tick are combined, only the latest is sent.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FluidSyncBatcher {
+  /** Pending updates for each level, keyed by chunk */
+  private static final Map<ServerLevel,Long2ObjectMap<ChunkBatch>> PENDING = new IdentityHashMap<>();
+  private static boolean init = false;
+
+  /** Initializes this listener */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    MinecraftForge.EVENT_BUS.addListener(FluidSyncBatcher::levelTick);
+    MinecraftForge.EVENT_BUS.addListener(FluidSyncBatcher::serverStopping);
+  }
+
+  /** Gets the batch for the given position */
+  private static ChunkBatch getBatch(ServerLevel level, BlockPos pos) {
+    return PENDING.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(ChunkPos.asLong(pos), c -> new ChunkBatch(pos.immutable()));
+  }
+
+  /**
+   * Queues a fluid update to send to clients at the end of the tick
+   * @param level  Level containing the block, does nothing clientside
+   * @param pos    Position of a {@link FluidUpdatePacket.IFluidPacketReceiver}
+   * @param fluid  New fluid, will be copied
+   */
+  public static void queueFluid(@Nullable LevelAccessor level, BlockPos pos, FluidStack fluid) {
+    if (level instanceof ServerLevel server) {
+      getBatch(server, pos).fluids.put(pos.immutable(), fluid.copy());
+    }
+  }
+
+  /**
+   * Queues a channel flow update to send to clients at the end of the tick
+   * @param level  Level containing the channel, does nothing clientside
+   * @param pos    Channel position
+   * @param side   Side that changed
+   * @param flow   New flowing state
+   */
+  public static void queueFlow(@Nullable LevelAccessor level, BlockPos pos, Direction side, boolean flow) {
+    if (level instanceof ServerLevel server) {
+      getBatch(server, pos).flows.put(new FlowKey(pos.immutable(), side), flow);
+    }
+  }
+
+  /** Sends all pending updates for the level */
+  private static void levelTick(LevelTickEvent event) {
+    if (event.phase != Phase.END || !(event.level instanceof ServerLevel level)) {
+      return;
+    }
+    Long2ObjectMap<ChunkBatch> chunks = PENDING.remove(level);
+    if (chunks != null) {
+      TinkerNetwork network = TinkerNetwork.getInstance();
+      for (ChunkBatch batch : chunks.values()) {
+        network.sendToClientsAround(batch.toPacket(), level, batch.origin);
+      }
+    }
+  }
+
+  /** Clears all pending updates */
+  private static void serverStopping(ServerStoppingEvent event) {
+    PENDING.clear();
+  }
+
+  /** Key for a flow update */
+  private record FlowKey(BlockPos pos, Direction side) {}
+
+  /** Pending updates within a single chunk */
+  private static class ChunkBatch {
+    /** Any position in the chunk, used to find players tracking the chunk */
+    private final BlockPos origin;
+    private final Map<BlockPos,FluidStack> fluids = new LinkedHashMap<>();
+    private final Map<FlowKey,Boolean> flows = new LinkedHashMap<>();
+
+    private ChunkBatch(BlockPos origin) {
+      this.origin = origin;
+    }
+
+    /** Creates a packet for this batch */
+    private FluidBatchUpdatePacket toPacket() {
+      List<FluidEntry> fluidList = new ArrayList<>(fluids.size());
+      for (Entry<BlockPos,FluidStack> entry : fluids.entrySet()) {
+        fluidList.add(new FluidEntry(entry.getKey(), entry.getValue()));
+      }
+      List<FlowEntry> flowList = new ArrayList<>(flows.size());
+      for (Entry<FlowKey,Boolean> entry : flows.entrySet()) {
+        FlowKey key = entry.getKey();
+        flowList.add(new FlowEntry(key.pos, key.side, entry.getValue()));
+      }
+      return new FluidBatchUpdatePacket(fluidList, flowList);
+    }
+  }
+}
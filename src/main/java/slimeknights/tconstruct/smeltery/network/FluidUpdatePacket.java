@@ -1,14 +1,15 @@
 package slimeknights.tconstruct.smeltery.network;
 
-import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.fluids.FluidStack;
-import net.minecraftforge.network.NetworkEvent.Context;
 import slimeknights.mantle.network.packet.IThreadsafePacket;
-import slimeknights.mantle.util.BlockEntityHelper;
 
-public class FluidUpdatePacket implements IThreadsafePacket {
+/**
+ * Base for packets syncing a fluid at a position. Plain fluid updates are sent through {@link FluidBatchUpdatePacket}.
+ * @see FaucetActivationPacket
+ */
+public abstract class FluidUpdatePacket implements IThreadsafePacket {
 
   protected final BlockPos pos;
   protected final FluidStack fluid;
@@ -29,11 +30,6 @@ public class FluidUpdatePacket implements IThreadsafePacket {
     buffer.writeFluidStack(fluid);
   }
 
-  @Override
-  public void handleThreadsafe(Context context) {
-    HandleClient.handle(this);
-  }
-
   /** Interface to implement for anything wishing to receive fluid updates */
   public interface IFluidPacketReceiver {
 
@@ -44,11 +40,4 @@ public class FluidUpdatePacket implements IThreadsafePacket {
      */
     void updateFluidTo(FluidStack fluid);
   }
-
-  /** Safely runs client side only code in a method only called on client */
-  private static class HandleClient {
-    private static void handle(FluidUpdatePacket packet) {
-      BlockEntityHelper.get(IFluidPacketReceiver.class, Minecraft.getInstance().level, packet.pos).ifPresent(te -> te.updateFluidTo(packet.fluid));
-    }
-  }
 }
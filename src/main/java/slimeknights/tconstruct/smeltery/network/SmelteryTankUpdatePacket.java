@@ -1,6 +1,5 @@
 package slimeknights.tconstruct.smeltery.network;
 
-import lombok.AllArgsConstructor;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
@@ -10,32 +9,84 @@ import slimeknights.mantle.network.packet.IThreadsafePacket;
 import slimeknights.mantle.util.BlockEntityHelper;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Packet sent whenever the contents of the smeltery tank change
+ * Packet sent whenever the contents of the smeltery tank change.
+ * Either contains the full list of fluids, or just the new amounts for fluids that changed if the order is unchanged.
  */
-@AllArgsConstructor
 public class SmelteryTankUpdatePacket implements IThreadsafePacket {
+  private static final int[] EMPTY = new int[0];
+
   private final BlockPos pos;
+  /** Full list of fluids, null for an amount update */
+  @Nullable
   private final List<FluidStack> fluids;
+  /** Indices of fluids with a changed amount */
+  private final int[] indices;
+  /** New amount for each index */
+  private final int[] amounts;
+
+  /** Creates a packet syncing all fluids */
+  public SmelteryTankUpdatePacket(BlockPos pos, List<FluidStack> fluids) {
+    this.pos = pos;
+    this.fluids = fluids;
+    this.indices = EMPTY;
+    this.amounts = EMPTY;
+  }
+
+  /** Creates a packet syncing just the amounts of some fluids */
+  public SmelteryTankUpdatePacket(BlockPos pos, int[] indices, int[] amounts) {
+    this.pos = pos;
+    this.fluids = null;
+    this.indices = indices;
+    this.amounts = amounts;
+  }
 
   public SmelteryTankUpdatePacket(FriendlyByteBuf buffer) {
     pos = buffer.readBlockPos();
-    int size = buffer.readVarInt();
-    fluids = new ArrayList<>(size);
-    for (int i = 0; i < size; i++) {
-      fluids.add(buffer.readFluidStack());
+    if (buffer.readBoolean()) {
+      int size = buffer.readVarInt();
+      fluids = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        fluids.add(buffer.readFluidStack());
+      }
+      indices = EMPTY;
+      amounts = EMPTY;
+    } else {
+      fluids = null;
+      int size = buffer.readVarInt();
+      indices = new int[size];
+      amounts = new int[size];
+      for (int i = 0; i < size; i++) {
+        indices[i] = buffer.readVarInt();
+        amounts[i] = buffer.readVarInt();
+      }
     }
   }
 
+  /** If true, this packet has nothing to sync */
+  public boolean isEmpty() {
+    return fluids == null && indices.length == 0;
+  }
+
   @Override
   public void encode(FriendlyByteBuf buffer) {
     buffer.writeBlockPos(pos);
-    buffer.writeVarInt(fluids.size());
-    for (FluidStack fluid : fluids) {
-      buffer.writeFluidStack(fluid);
+    buffer.writeBoolean(fluids != null);
+    if (fluids != null) {
+      buffer.writeVarInt(fluids.size());
+      for (FluidStack fluid : fluids) {
+        buffer.writeFluidStack(fluid);
+      }
+    } else {
+      buffer.writeVarInt(indices.length);
+      for (int i = 0; i < indices.length; i++) {
+        buffer.writeVarInt(indices[i]);
+        buffer.writeVarInt(amounts[i]);
+      }
     }
   }
 
@@ -46,7 +97,13 @@ public class SmelteryTankUpdatePacket implements IThreadsafePacket {
 
   private static class HandleClient {
     private static void handle(SmelteryTankUpdatePacket packet) {
-      BlockEntityHelper.get(ISmelteryTankHandler.class, Minecraft.getInstance().level, packet.pos).ifPresent(te -> te.updateFluidsFromPacket(packet.fluids));
+      BlockEntityHelper.get(ISmelteryTankHandler.class, Minecraft.getInstance().level, packet.pos).ifPresent(te -> {
+        if (packet.fluids != null) {
+          te.updateFluidsFromPacket(packet.fluids);
+        } else {
+          te.getTank().setAmounts(packet.indices, packet.amounts);
+        }
+      });
     }
   }
 }
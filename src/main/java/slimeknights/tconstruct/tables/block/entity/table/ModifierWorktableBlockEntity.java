@@ -14,7 +14,7 @@ import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.recipe.RecipeResult;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.TinkerableRecipeLookup;
 import slimeknights.tconstruct.library.recipe.worktable.IModifierWorktableRecipe;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.shared.inventory.ConfigurableInvWrapperCapability;
@@ -28,7 +28,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 public class ModifierWorktableBlockEntity extends RetexturedTableBlockEntity implements ILazyCrafter {
   /** Index containing the tool */
@@ -139,9 +138,9 @@ public class ModifierWorktableBlockEntity extends RetexturedTableBlockEntity imp
         return updateRecipe(lastRecipe);
       }
       // look for a new recipe, if it matches cache it
-      Optional<IModifierWorktableRecipe> recipe = level.getRecipeManager().getRecipeFor(TinkerRecipeTypes.MODIFIER_WORKTABLE.get(), inventoryWrapper, level);
-      if (recipe.isPresent()) {
-        return updateRecipe(recipe.get());
+      IModifierWorktableRecipe recipe = TinkerableRecipeLookup.findWorktableRecipe(level.getRecipeManager(), inventoryWrapper, level);
+      if (recipe != null) {
+        return updateRecipe(recipe);
       }
       recipeValid = false;
       currentMessage = Component.empty();
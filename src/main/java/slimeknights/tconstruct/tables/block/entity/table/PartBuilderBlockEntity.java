@@ -7,16 +7,16 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.event.ForgeEventFactory;
 import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.material.IMaterialValue;
 import slimeknights.tconstruct.library.recipe.partbuilder.IPartBuilderRecipe;
+import slimeknights.tconstruct.library.recipe.partbuilder.PartBuilderRecipeLookup;
+import slimeknights.tconstruct.library.recipe.partbuilder.PartBuilderRecipeLookup.PatternRecipes;
 import slimeknights.tconstruct.library.recipe.partbuilder.Pattern;
 import slimeknights.tconstruct.shared.inventory.ConfigurableInvWrapperCapability;
 import slimeknights.tconstruct.tables.TinkerTables;
@@ -27,11 +27,8 @@ import slimeknights.tconstruct.tables.menu.PartBuilderContainerMenu;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.stream.Collectors;
 
 public class PartBuilderBlockEntity extends RetexturedTableBlockEntity implements ILazyCrafter {
   /** First slot containing materials */
@@ -80,17 +77,10 @@ public class PartBuilderBlockEntity extends RetexturedTableBlockEntity implement
         recipes = Collections.emptyMap();
         sortedButtons = Collections.emptyList();
       } else {
-        record PatternRecipe(Pattern pattern, IPartBuilderRecipe recipe) {}
-        // fetch all recipes that can match these inputs, the map ensures the patterns are unique
-        recipes = level.getRecipeManager().byType(TinkerRecipeTypes.PART_BUILDER.get()).values().stream()
-                       .filter(r -> r.partialMatch(inventoryWrapper))
-                       .sorted(Comparator.comparing(Recipe::getId))
-                       .flatMap(r -> r.getPatterns(inventoryWrapper).map(p -> new PatternRecipe(p, r)))
-                       .collect(Collectors.toMap(PatternRecipe::pattern, PatternRecipe::recipe, (a, b) -> a));
-        sortedButtons = recipes.entrySet()
-                               .stream()
-                               .sorted(Comparator.<Entry<Pattern,IPartBuilderRecipe>>comparingInt(ent -> ent.getValue().getCost()).thenComparing(Entry::getKey))
-                               .map(Entry::getKey).collect(Collectors.toList());
+        // results are shared between all part builders with the same inputs
+        PatternRecipes patternRecipes = PartBuilderRecipeLookup.getRecipes(level, inventoryWrapper);
+        recipes = patternRecipes.recipes();
+        sortedButtons = patternRecipes.sortedButtons();
       }
     }
     return recipes;
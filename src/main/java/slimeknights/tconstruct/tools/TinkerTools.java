@@ -70,7 +70,9 @@ import slimeknights.tconstruct.library.tools.definition.module.mining.MiningSpee
 import slimeknights.tconstruct.library.tools.definition.module.weapon.CircleWeaponAttack;
 import slimeknights.tconstruct.library.tools.definition.module.weapon.ParticleWeaponAttack;
 import slimeknights.tconstruct.library.tools.definition.module.weapon.SweepWeaponAttack;
+import slimeknights.tconstruct.library.tools.helper.DeferredHarvestHandler;
 import slimeknights.tconstruct.library.tools.helper.ModifierLootingHandler;
+import slimeknights.tconstruct.library.tools.helper.ToolBuildHandler;
 import slimeknights.tconstruct.library.tools.item.ModifiableItem;
 import slimeknights.tconstruct.library.tools.item.armor.ModifiableArmorItem;
 import slimeknights.tconstruct.library.tools.item.armor.MultilayerArmorItem;
@@ -107,7 +109,9 @@ public final class TinkerTools extends TinkerModule {
     SlotType.init();
     BlockSideHitListener.init();
     ModifierLootingHandler.init();
+    DeferredHarvestHandler.init();
     RandomMaterial.init();
+    ToolBuildHandler.init();
   }
 
   /** Creative tab for all tool items */
@@ -116,12 +116,14 @@ public class EquipmentChangeWatcher {
     }
 
     // finally, fire events on all other slots to say something changed
-    for (EquipmentSlot otherSlot : EquipmentSlot.values()) {
-      if (otherSlot != changedSlot) {
-        tool = context.getToolInSlot(otherSlot);
-        if (tool != null) {
-          for (ModifierEntry entry : tool.getModifierList()) {
-            entry.getHook(ModifierHooks.EQUIPMENT_CHANGE).onEquipmentChange(tool, entry, context, otherSlot);
+    if (context.hasHook(ModifierHooks.EQUIPMENT_CHANGE)) {
+      for (EquipmentSlot otherSlot : EquipmentSlot.values()) {
+        if (otherSlot != changedSlot) {
+          tool = context.getToolInSlot(otherSlot);
+          if (tool != null) {
+            for (ModifierEntry entry : tool.getModifierList()) {
+              entry.getHook(ModifierHooks.EQUIPMENT_CHANGE).onEquipmentChange(tool, entry, context, otherSlot);
+            }
           }
         }
       }
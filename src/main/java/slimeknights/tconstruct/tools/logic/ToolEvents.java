@@ -55,6 +55,7 @@ import slimeknights.tconstruct.library.modifiers.hook.armor.ProtectionModifierHo
 import slimeknights.tconstruct.library.modifiers.modules.armor.MobDisguiseModule;
 import slimeknights.tconstruct.library.modifiers.modules.technical.ArmorStatModule;
 import slimeknights.tconstruct.library.tools.capability.EntityModifierCapability;
+import slimeknights.tconstruct.library.tools.capability.EquipmentSnapshot;
 import slimeknights.tconstruct.library.tools.capability.PersistentDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataKeys;
@@ -71,7 +72,6 @@ import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.utils.BlockSideHitListener;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -89,8 +89,7 @@ public class ToolEvents {
     if (stack.is(TinkerTags.Items.HARVEST)) {
       ToolStack tool = ToolStack.from(stack);
       if (!tool.isBroken()) {
-        List<ModifierEntry> modifiers = tool.getModifierList();
-        if (!modifiers.isEmpty()) {
+        if (tool.getModifiers().hasHook(ModifierHooks.BREAK_SPEED)) {
           // modifiers using additive boosts may want info on the original boosts provided
           float miningSpeedModifier = Modifier.getMiningModifier(player);
           boolean isEffective = stack.isCorrectToolForDrops(event.getState());
@@ -194,14 +193,16 @@ public class ToolEvents {
     float amount = event.getAmount();
     if (context.hasModifiableArmor()) {
       // first we need to determine if any of the four slots want to cancel the event
-      for (EquipmentSlot slotType : EquipmentSlot.values()) {
-        if (ModifierUtil.validArmorSlot(entity, slotType)) {
-          IToolStackView toolStack = context.getToolInSlot(slotType);
-          if (toolStack != null && !toolStack.isBroken()) {
-            for (ModifierEntry entry : toolStack.getModifierList()) {
-              if (entry.getHook(ModifierHooks.DAMAGE_BLOCK).isDamageBlocked(toolStack, entry, context, slotType, source, amount)) {
-                event.setCanceled(true);
-                return;
+      if (context.hasHook(ModifierHooks.DAMAGE_BLOCK)) {
+        for (EquipmentSlot slotType : EquipmentSlot.values()) {
+          if (ModifierUtil.validArmorSlot(entity, slotType)) {
+            IToolStackView toolStack = context.getToolInSlot(slotType);
+            if (toolStack != null && !toolStack.isBroken() && toolStack.getModifiers().hasHook(ModifierHooks.DAMAGE_BLOCK)) {
+              for (ModifierEntry entry : toolStack.getModifierList()) {
+                if (entry.getHook(ModifierHooks.DAMAGE_BLOCK).isDamageBlocked(toolStack, entry, context, slotType, source, amount)) {
+                  event.setCanceled(true);
+                  return;
+                }
               }
             }
           }
@@ -209,17 +210,19 @@ public class ToolEvents {
       }
 
       // then we need to determine if any want to respond assuming its not canceled
-      OnAttackedModifierHook.handleAttack(ModifierHooks.ON_ATTACKED, context, source, amount, isDirectDamage);
+      if (context.hasHook(ModifierHooks.ON_ATTACKED)) {
+        OnAttackedModifierHook.handleAttack(ModifierHooks.ON_ATTACKED, context, source, amount, isDirectDamage);
+      }
     }
 
     // next, consider the attacker is wearing modifiable armor
     Entity attacker = source.getEntity();
     if (attacker instanceof LivingEntity livingAttacker) {
       context = new EquipmentContext(livingAttacker);
-      if (context.hasModifiableArmor()) {
+      if (context.hasModifiableArmor() && context.hasHook(ModifierHooks.DAMAGE_DEALT)) {
         for (EquipmentSlot slotType : ModifiableArmorMaterial.ARMOR_SLOTS) {
           IToolStackView toolStack = context.getToolInSlot(slotType);
-          if (toolStack != null && !toolStack.isBroken()) {
+          if (toolStack != null && !toolStack.isBroken() && toolStack.getModifiers().hasHook(ModifierHooks.DAMAGE_DEALT)) {
             for (ModifierEntry entry : toolStack.getModifierList()) {
               entry.getHook(ModifierHooks.DAMAGE_DEALT).onDamageDealt(toolStack, entry, context, slotType, entity, source, amount, isDirectDamage);
             }
@@ -257,8 +260,10 @@ public class ToolEvents {
     // for our own armor, we have boosts from modifiers to consider
     if (context.hasModifiableArmor()) {
       // first, allow modifiers to change the damage being dealt and respond to it happening
-      originalDamage = ModifyDamageModifierHook.modifyDamageTaken(ModifierHooks.MODIFY_HURT, context, source, originalDamage, OnAttackedModifierHook.isDirectDamage(source));
-      event.setAmount(originalDamage);
+      if (context.hasHook(ModifierHooks.MODIFY_HURT)) {
+        originalDamage = ModifyDamageModifierHook.modifyDamageTaken(ModifierHooks.MODIFY_HURT, context, source, originalDamage, OnAttackedModifierHook.isDirectDamage(source));
+        event.setAmount(originalDamage);
+      }
       if (originalDamage <= 0) {
         event.setCanceled(true);
         return;
@@ -272,12 +277,14 @@ public class ToolEvents {
 
       // next, determine how much tinkers armor wants to change it
       // note that armor modifiers can choose to block "absolute damage" if they wish, currently just starving damage I think
-      for (EquipmentSlot slotType : EquipmentSlot.values()) {
-        if (ModifierUtil.validArmorSlot(entity, slotType)) {
-          IToolStackView tool = context.getToolInSlot(slotType);
-          if (tool != null && !tool.isBroken()) {
-            for (ModifierEntry entry : tool.getModifierList()) {
-              modifierValue = entry.getHook(ModifierHooks.PROTECTION).getProtectionModifier(tool, entry, context, slotType, source, modifierValue);
+      if (context.hasHook(ModifierHooks.PROTECTION)) {
+        for (EquipmentSlot slotType : EquipmentSlot.values()) {
+          if (ModifierUtil.validArmorSlot(entity, slotType)) {
+            IToolStackView tool = context.getToolInSlot(slotType);
+            if (tool != null && !tool.isBroken() && tool.getModifiers().hasHook(ModifierHooks.PROTECTION)) {
+              for (ModifierEntry entry : tool.getModifierList()) {
+                modifierValue = entry.getHook(ModifierHooks.PROTECTION).getProtectionModifier(tool, entry, context, slotType, source, modifierValue);
+              }
             }
           }
         }
@@ -347,8 +354,11 @@ public class ToolEvents {
     // give modifiers a chance to respond to damage happening
     EquipmentContext context = new EquipmentContext(entity);
     if (context.hasModifiableArmor()) {
-      float amount = ModifyDamageModifierHook.modifyDamageTaken(ModifierHooks.MODIFY_DAMAGE, context, source, event.getAmount(), OnAttackedModifierHook.isDirectDamage(source));
-      event.setAmount(amount);
+      float amount = event.getAmount();
+      if (context.hasHook(ModifierHooks.MODIFY_DAMAGE)) {
+        amount = ModifyDamageModifierHook.modifyDamageTaken(ModifierHooks.MODIFY_DAMAGE, context, source, amount, OnAttackedModifierHook.isDirectDamage(source));
+        event.setAmount(amount);
+      }
       if (amount <= 0) {
         event.setCanceled(true);
         return;
@@ -372,9 +382,12 @@ public class ToolEvents {
     if (!living.isSpectator() && !living.level.isClientSide() && living.isAlive() && !Objects.equals(living.lastPos, pos)) {
       ItemStack boots = living.getItemBySlot(EquipmentSlot.FEET);
       if (!boots.isEmpty() && boots.is(TinkerTags.Items.BOOTS)) {
-        ToolStack tool = ToolStack.from(boots);
-        for (ModifierEntry entry : tool.getModifierList()) {
-          entry.getHook(ModifierHooks.BOOT_WALK).onWalk(tool, entry, living, living.lastPos, pos);
+        // skip looping modifiers if the boots do not care about walking
+        IToolStackView tool = EquipmentSnapshot.get(living).getTool(EquipmentSlot.FEET);
+        if (tool != null && tool.getModifiers().hasHook(ModifierHooks.BOOT_WALK)) {
+          for (ModifierEntry entry : tool.getModifierList()) {
+            entry.getHook(ModifierHooks.BOOT_WALK).onWalk(tool, entry, living, living.lastPos, pos);
+          }
         }
       }
     }
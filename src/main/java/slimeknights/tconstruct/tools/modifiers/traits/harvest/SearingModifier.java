@@ -22,8 +22,8 @@ import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.modifiers.hook.display.TooltipModifierHook;
 import slimeknights.tconstruct.library.modifiers.hook.mining.BreakSpeedModifierHook;
 import slimeknights.tconstruct.library.module.ModuleHookMap.Builder;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingContainer;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeLookup;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 
@@ -44,7 +44,7 @@ public class SearingModifier extends Modifier implements BreakSpeedModifierHook,
   /** Checks if the modifier is effective on the given block state */
   private static boolean isEffective(Level world, Item item) {
     CONTAINER.setStack(new ItemStack(item));
-    boolean effective = world.getRecipeManager().getRecipeFor(TinkerRecipeTypes.MELTING.get(), CONTAINER, world).isPresent();
+    boolean effective = MeltingRecipeLookup.findRecipe(CONTAINER, world) != null;
     CONTAINER.setStack(ItemStack.EMPTY);
     return effective;
   }
@@ -0,0 +1,88 @@
+package slimeknights.tconstruct.library.json.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests that compiled formulas match the stack interpreter, does not bootstrap the game */
+class PostFixFormulaTest {
+  private static final String[] VARIABLES = {"level", "value", "multiplier"};
+  private static final float[][] ARGUMENTS = {
+    {0, 0, 0}, {1, 2, 3}, {-1.5f, 4, 0.5f}, {3, -2, 0}, {0.25f, 10, -1}
+  };
+
+  /** Checks that the compiled and interpreted formula agree for all test arguments */
+  private static void assertMatchesInterpreter(PostFixFormula formula) {
+    for (float[] arguments : ARGUMENTS) {
+      assertThat(formula.apply(arguments)).isEqualTo(formula.interpret(arguments));
+    }
+  }
+
+  @Test
+  void compiled_binaryOperators() {
+    for (PostFixOperator operator : List.of(PostFixOperator.ADD, PostFixOperator.SUBTRACT, PostFixOperator.SUBTRACT_FLIPPED, PostFixOperator.MULTIPLY,
+                                            PostFixOperator.DIVIDE, PostFixOperator.DIVIDE_FLIPPED, PostFixOperator.POWER, PostFixOperator.POWER_FLIPPED,
+                                            PostFixOperator.MIN, PostFixOperator.MAX)) {
+      assertMatchesInterpreter(PostFixFormula.builder(VARIABLES).variable(0).variable(1).operation(operator).buildFormula());
+    }
+  }
+
+  @Test
+  void compiled_unaryOperators() {
+    for (PostFixOperator operator : List.of(PostFixOperator.NEGATE, PostFixOperator.NON_NEGATIVE, PostFixOperator.PERCENT_CLAMP,
+                                            PostFixOperator.ABS, PostFixOperator.FLOOR, PostFixOperator.CEIL)) {
+      assertMatchesInterpreter(PostFixFormula.builder(VARIABLES).variable(0).operation(operator).buildFormula());
+    }
+  }
+
+  @Test
+  void compiled_swapAndDuplicate() {
+    assertMatchesInterpreter(PostFixFormula.builder(VARIABLES).variable(0).variable(1).swap().subtract().buildFormula());
+    assertMatchesInterpreter(PostFixFormula.builder(VARIABLES).variable(2).duplicate().multiply().variable(0).add().buildFormula());
+  }
+
+  @Test
+  void compiled_constantsFolded() {
+    PostFixFormula formula = PostFixFormula.builder(VARIABLES).constant(2).constant(3).power().constant(4).divideFlipped().variable(1).multiply().buildFormula();
+    assertMatchesInterpreter(formula);
+    assertThat(formula.apply(1, 3, 0)).isEqualTo(1.5f);
+    // fully constant formulas fold into a single constant
+    CompiledFormula compiled = CompiledFormula.compile(List.of(new PushConstantOperation(2), new PushConstantOperation(5), PostFixOperator.MULTIPLY, PostFixOperator.NEGATE));
+    assertThat(compiled).isNotNull();
+    assertThat(compiled.size()).isEqualTo(1);
+    assertThat(compiled.apply(new float[0])).isEqualTo(-10);
+    // constants are also folded through swap and duplicate
+    compiled = CompiledFormula.compile(List.of(new PushConstantOperation(2), new PushConstantOperation(6), PostFixOperator.SWAP, PostFixOperator.DIVIDE, PostFixOperator.DUPLICATE, PostFixOperator.ADD));
+    assertThat(compiled).isNotNull();
+    assertThat(compiled.size()).isEqualTo(1);
+    assertThat(compiled.apply(new float[0])).isEqualTo(6);
+  }
+
+  @Test
+  void compiled_chainedDuplicates() {
+    // each duplicate squares the previous value, evaluating the duplicated value once per duplicate
+    PostFixFormula.Builder<?> builder = PostFixFormula.builder(VARIABLES).variable(0).constant(1).add();
+    for (int i = 0; i < 30; i++) {
+      builder.duplicate().multiply().nonNegative().percentClamp();
+    }
+    PostFixFormula formula = builder.buildFormula();
+    assertMatchesInterpreter(formula);
+    // instructions stay linear in the number of operations
+    CompiledFormula compiled = CompiledFormula.compile(formula.operations());
+    assertThat(compiled).isNotNull();
+    assertThat(compiled.size()).isEqualTo(formula.operations().size());
+  }
+
+  @Test
+  void invalid_fallsBackToInterpreter() {
+    // too many values on the stack
+    PostFixFormula formula = new PostFixFormula(List.of(new PushConstantOperation(1), new PushConstantOperation(2)), 0);
+    assertThatThrownBy(formula::apply).isInstanceOf(IllegalStateException.class);
+    // too few values for an operator
+    assertThat(CompiledFormula.compile(List.of(new PushConstantOperation(1), PostFixOperator.ADD))).isNull();
+    assertThat(CompiledFormula.compile(List.of(new PushConstantOperation(1), new PushConstantOperation(2)))).isNull();
+  }
+}
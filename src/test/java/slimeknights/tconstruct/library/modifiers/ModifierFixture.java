@@ -1,11 +1,22 @@
 package slimeknights.tconstruct.library.modifiers;
 
+import slimeknights.tconstruct.library.modifiers.hook.mining.BreakSpeedModifierHook;
+import slimeknights.tconstruct.library.module.ModuleHookMap.Builder;
+
 public class ModifierFixture {
   public static final ModifierId TEST_1 = new ModifierId("test", "modifier_1");
   public static final ModifierId TEST_2 = new ModifierId("test", "modifier_2");
+  public static final ModifierId TEST_BREAK_SPEED = new ModifierId("test", "break_speed");
 
   public static final Modifier TEST_MODIFIER_1 = new Modifier();
   public static final Modifier TEST_MODIFIER_2 = new Modifier();
+  /** Modifier implementing a single hook */
+  public static final Modifier TEST_MODIFIER_BREAK_SPEED = new Modifier() {
+    @Override
+    protected void registerHooks(Builder hookBuilder) {
+      hookBuilder.addHook((BreakSpeedModifierHook) (tool, modifier, event, sideHit, isEffective, miningSpeedModifier) -> {}, ModifierHooks.BREAK_SPEED);
+    }
+  };
 
   private static boolean init = false;
 
@@ -16,8 +27,10 @@ public class ModifierFixture {
     init = true;
     TEST_MODIFIER_1.setId(TEST_1);
     TEST_MODIFIER_2.setId(TEST_2);
+    TEST_MODIFIER_BREAK_SPEED.setId(TEST_BREAK_SPEED);
     ModifierManager.INSTANCE.staticModifiers.put(TEST_1, TEST_MODIFIER_1);
     ModifierManager.INSTANCE.staticModifiers.put(TEST_2, TEST_MODIFIER_2);
+    ModifierManager.INSTANCE.staticModifiers.put(TEST_BREAK_SPEED, TEST_MODIFIER_BREAK_SPEED);
     ModifierManager.INSTANCE.dynamicModifiersLoaded = true;
   }
 }
@@ -0,0 +1,33 @@
+package slimeknights.tconstruct.library.recipe;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraftforge.common.crafting.PartialNBTIngredient;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeLookupHelperTest extends BaseMcTest {
+  @Test
+  void canMatch_simpleFiltersItems() {
+    Ingredient ingredient = Ingredient.of(Items.GOLD_INGOT);
+    assertThat(RecipeLookupHelper.canMatch(ingredient, Items.GOLD_INGOT)).isTrue();
+    assertThat(RecipeLookupHelper.canMatch(ingredient, Items.IRON_INGOT)).isFalse();
+  }
+
+  @Test
+  void canMatch_airTestsEmptyStack() {
+    assertThat(RecipeLookupHelper.canMatch(Ingredient.EMPTY, Items.AIR)).isTrue();
+    assertThat(RecipeLookupHelper.canMatch(Ingredient.of(Items.GOLD_INGOT), Items.AIR)).isFalse();
+  }
+
+  @Test
+  void canMatch_notSimpleAlwaysMatches() {
+    CompoundTag tag = new CompoundTag();
+    tag.putBoolean("test", true);
+    Ingredient ingredient = PartialNBTIngredient.of(Items.GOLD_INGOT, tag);
+    assertThat(RecipeLookupHelper.canMatch(ingredient, Items.IRON_INGOT)).isTrue();
+  }
+}
@@ -0,0 +1,68 @@
+package slimeknights.tconstruct.library.recipe.casting;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.level.material.Fluids;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.recipe.helper.ItemOutput;
+import slimeknights.mantle.recipe.helper.TypeAwareRecipeSerializer;
+import slimeknights.mantle.recipe.ingredient.FluidIngredient;
+import slimeknights.tconstruct.fixture.ToolDefinitionFixture;
+import slimeknights.tconstruct.library.recipe.casting.material.ToolCastingRecipe;
+import slimeknights.tconstruct.library.tools.item.ModifiableItem;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CastingRecipeLookupTest extends BaseMcTest {
+  private static final ResourceLocation ID = new ResourceLocation("test", "casting");
+  private static TypeAwareRecipeSerializer<?> serializer;
+  private static ModifiableItem tool;
+
+  @BeforeAll
+  static void setUp() {
+    serializer = mock(TypeAwareRecipeSerializer.class);
+    tool = new ModifiableItem(new Item.Properties(), ToolDefinitionFixture.getStandardToolDefinition());
+  }
+
+  @Test
+  void itemCasting_filtersCastAndFluid() {
+    ItemCastingRecipe recipe = new ItemCastingRecipe(serializer, ID, "", Ingredient.of(Items.GOLD_INGOT), FluidIngredient.of(Fluids.WATER, 100), ItemOutput.fromItem(Items.DIAMOND), 20, false, false);
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.GOLD_INGOT, Fluids.WATER)).isTrue();
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.IRON_INGOT, Fluids.WATER)).isFalse();
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.GOLD_INGOT, Fluids.LAVA)).isFalse();
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.AIR, Fluids.WATER)).isFalse();
+  }
+
+  @Test
+  void itemCasting_emptyCastMatchesAir() {
+    ItemCastingRecipe recipe = new ItemCastingRecipe(serializer, ID, "", Ingredient.EMPTY, FluidIngredient.of(Fluids.WATER, 100), ItemOutput.fromItem(Items.DIAMOND), 20, false, false);
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.AIR, Fluids.WATER)).isTrue();
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.GOLD_INGOT, Fluids.WATER)).isFalse();
+  }
+
+  @Test
+  void toolCasting_filtersCast() {
+    ToolCastingRecipe recipe = new ToolCastingRecipe(serializer, ID, "", Ingredient.of(Items.STICK), 1, tool);
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.STICK, Fluids.LAVA)).isTrue();
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.GOLD_INGOT, Fluids.LAVA)).isFalse();
+  }
+
+  @Test
+  void toolCasting_keepsPartSwapping() {
+    // the tool itself is not part of the cast ingredient, but is used to swap the part
+    ToolCastingRecipe recipe = new ToolCastingRecipe(serializer, ID, "", Ingredient.of(Items.STICK), 1, tool);
+    assertThat(CastingRecipeLookup.canMatch(recipe, tool, Fluids.LAVA)).isTrue();
+  }
+
+  @Test
+  void subclasses_notFiltered() {
+    // subclasses may override matches, so they must always be candidates
+    ToolCastingRecipe recipe = new ToolCastingRecipe(serializer, ID, "", Ingredient.of(Items.STICK), 1, tool) {};
+    assertThat(CastingRecipeLookup.canMatch(recipe, Items.GOLD_INGOT, Fluids.LAVA)).isTrue();
+  }
+}
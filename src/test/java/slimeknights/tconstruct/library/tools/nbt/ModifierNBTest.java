@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.library.tools.nbt;
 
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -7,8 +8,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierFixture;
+import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.test.BaseMcTest;
 
+import java.util.BitSet;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ModifierNBTest extends BaseMcTest {
@@ -116,4 +120,66 @@ class ModifierNBTest extends BaseMcTest {
 
     assertThat(modifierNBT).isEqualTo(ModifierNBT.EMPTY);
   }
+
+  @Test
+  void hasHook_empty() {
+    assertThat(ModifierNBT.EMPTY.hasHook(ModifierHooks.BREAK_SPEED)).isFalse();
+  }
+
+  @Test
+  void hasHook_matchesModifiers() {
+    ModifierNBT without = ModifierNBT.builder().add(ModifierFixture.TEST_MODIFIER_1, 1).build();
+    assertThat(without.hasHook(ModifierHooks.BREAK_SPEED)).isFalse();
+
+    ModifierNBT with = ModifierNBT.builder().add(ModifierFixture.TEST_MODIFIER_1, 1).add(ModifierFixture.TEST_MODIFIER_BREAK_SPEED, 1).build();
+    assertThat(with.hasHook(ModifierHooks.BREAK_SPEED)).isTrue();
+    assertThat(with.hasHook(ModifierHooks.BLOCK_BREAK)).isFalse();
+    // the cached hooks do not affect equality
+    assertThat(with).isEqualTo(ModifierNBT.builder().add(ModifierFixture.TEST_MODIFIER_1, 1).add(ModifierFixture.TEST_MODIFIER_BREAK_SPEED, 1).build());
+  }
+
+  @Test
+  void addHookIndices_combinesLists() {
+    BitSet indices = new BitSet();
+    ModifierNBT.builder().add(ModifierFixture.TEST_MODIFIER_1, 1).build().addHookIndices(indices);
+    assertThat(indices.get(ModifierHooks.BREAK_SPEED.getIndex())).isFalse();
+    ModifierNBT.builder().add(ModifierFixture.TEST_MODIFIER_BREAK_SPEED, 1).build().addHookIndices(indices);
+    assertThat(indices.get(ModifierHooks.BREAK_SPEED.getIndex())).isTrue();
+    assertThat(indices.get(ModifierHooks.BLOCK_BREAK.getIndex())).isFalse();
+  }
+
+  @Test
+  void getHookEntries_filtersModifiers() {
+    ModifierNBT modifiers = ModifierNBT.builder().add(ModifierFixture.TEST_MODIFIER_1, 1).add(ModifierFixture.TEST_MODIFIER_BREAK_SPEED, 2).build();
+    assertThat(modifiers.getHookEntries(ModifierHooks.BREAK_SPEED)).containsExactly(new ModifierEntry(ModifierFixture.TEST_MODIFIER_BREAK_SPEED, 2));
+    assertThat(modifiers.getHookEntries(ModifierHooks.BLOCK_BREAK)).isEmpty();
+    // second call returns the cached list
+    assertThat(modifiers.getHookEntries(ModifierHooks.BREAK_SPEED)).isSameAs(modifiers.getHookEntries(ModifierHooks.BREAK_SPEED));
+  }
+
+  @Test
+  void compact_roundTrip() {
+    ModifierNBT modifiers = ModifierNBT.builder()
+                                       .add(ModifierFixture.TEST_MODIFIER_1, 2)
+                                       .add(ModifierFixture.TEST_MODIFIER_2, 3)
+                                       .build()
+                                       .addAmount(ModifierFixture.TEST_2, 2, 5);
+
+    ByteArrayTag tag = modifiers.serializeCompact();
+    ModifierNBT decoded = ModifierNBT.readFromNBT(tag);
+    assertThat(decoded).isEqualTo(modifiers);
+    assertThat(decoded.getLevel(ModifierFixture.TEST_1)).isEqualTo(2);
+    assertThat(decoded.getEntry(ModifierFixture.TEST_2).getAmount(0)).isEqualTo(2);
+    assertThat(decoded.getEntry(ModifierFixture.TEST_2).getNeeded()).isEqualTo(5);
+  }
+
+  @Test
+  void compact_empty() {
+    assertThat(ModifierNBT.readFromNBT(ModifierNBT.EMPTY.serializeCompact())).isEqualTo(ModifierNBT.EMPTY);
+  }
+
+  @Test
+  void compact_malformed_empty() {
+    assertThat(ModifierNBT.readFromNBT(new ByteArrayTag(new byte[] {5, 1}))).isEqualTo(ModifierNBT.EMPTY);
+  }
 }
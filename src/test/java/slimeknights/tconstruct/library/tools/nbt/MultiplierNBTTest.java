@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.library.tools.nbt;
 
 import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -133,4 +134,19 @@ class MultiplierNBTTest extends BaseMcTest {
       .build();
     assertThat(partialStatsNBT.get(ToolStats.MINING_SPEED)).isEqualTo(1f);
   }
+
+  @Test
+  void compact_roundTrip() {
+    MultiplierNBT multipliers = MultiplierNBT
+      .builder()
+      .set(ToolStats.DURABILITY, 4)
+      .set(ToolStats.ATTACK_DAMAGE, 3.5f)
+      .set(ToolStats.MINING_SPEED, 8)
+      .build();
+
+    ByteArrayTag tag = multipliers.serializeCompact();
+    MultiplierNBT decoded = MultiplierNBT.readFromNBT(tag);
+    assertThat(decoded).isEqualTo(multipliers);
+    assertThat(decoded.get(ToolStats.ATTACK_DAMAGE)).isEqualTo(3.5f);
+  }
 }
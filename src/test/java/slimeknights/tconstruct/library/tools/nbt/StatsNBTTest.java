@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.library.tools.nbt;
 
 import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -146,4 +147,26 @@ class StatsNBTTest extends BaseMcTest {
     assertThat(partialStatsNBT.get(ToolStats.ARMOR)).isEqualTo(ToolStats.ARMOR.getDefaultValue());
     assertThat(partialStatsNBT.get(ToolStats.HARVEST_TIER)).isEqualTo(ToolStats.HARVEST_TIER.getDefaultValue());
   }
+
+  @Test
+  void compact_roundTrip() {
+    StatsNBT stats = StatsNBT
+      .builder()
+      .set(ToolStats.DURABILITY, 4f)
+      .set(ToolStats.HARVEST_TIER, Tiers.IRON)
+      .set(ToolStats.ATTACK_DAMAGE, 3.5f)
+      .set(ToolStats.MINING_SPEED, 8f)
+      .build();
+
+    ByteArrayTag tag = stats.serializeCompact();
+    StatsNBT decoded = StatsNBT.readFromNBT(tag);
+    assertThat(decoded).isEqualTo(stats);
+    assertThat(decoded.get(ToolStats.HARVEST_TIER)).isEqualTo(Tiers.IRON);
+    assertThat(decoded.get(ToolStats.ATTACK_DAMAGE)).isEqualTo(3.5f);
+  }
+
+  @Test
+  void compact_empty() {
+    assertThat(StatsNBT.readFromNBT(StatsNBT.EMPTY.serializeCompact())).isEqualTo(StatsNBT.EMPTY);
+  }
 }
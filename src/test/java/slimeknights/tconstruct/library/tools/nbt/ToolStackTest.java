@@ -433,4 +433,20 @@ class ToolStackTest extends ToolItemTest {
     assertThat(toolStack.getVolatileData()).isNotEqualTo(volatileData);
     assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_1)).isEqualTo(2);
   }
+
+  @Test
+  void rebuildStats_incrementalMatchesFull() {
+    ToolStack toolStack = ToolStack.from(tool, tool.getToolDefinition(), new CompoundTag());
+    toolStack.setMaterials(MaterialNBT.of(MaterialFixture.MATERIAL_WITH_HEAD, MaterialFixture.MATERIAL_WITH_HANDLE, MaterialFixture.MATERIAL_WITH_EXTRA));
+    // second rebuild reuses tool traits as materials are unchanged
+    toolStack.addModifier(ModifierFixture.TEST_1, 2);
+    toolStack.getPersistentData().setSlots(SlotType.UPGRADE, 3);
+    toolStack.rebuildStats();
+
+    ToolStack full = ToolStack.from(tool, tool.getToolDefinition(), toolStack.getNbt().copy());
+    full.clearCache();
+    full.rebuildStats();
+    assertThat(toolStack.getNbt()).isEqualTo(full.getNbt());
+    assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_1)).isEqualTo(2);
+  }
 }